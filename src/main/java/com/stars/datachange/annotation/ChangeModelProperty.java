@@ -54,7 +54,8 @@ public @interface ChangeModelProperty {
     boolean bitOperation() default false;
 
     /**
-     * Need split
+     * Need split<p>
+     *      The mapped property may be {@link String} (joined by the delimiter), {@code String[]} or {@code List<String>}
      * @return boolean
      * @author zhouhao
      * @since  2021/9/13 14:06
@@ -63,7 +64,8 @@ public @interface ChangeModelProperty {
 
     /**
      * Delimiter of split<p>
-     *      Take effect when {@link ChangeModelProperty#split} is true
+     *      Take effect when {@link ChangeModelProperty#split} is true<p>
+     *      Matched literally (not a regex), any character sequence can be used
      * @return String
      * @author zhouhao
      * @since  2021/9/13 14:06
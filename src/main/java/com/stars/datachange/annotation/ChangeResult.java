@@ -7,12 +7,13 @@ import java.lang.annotation.Target;
 
 /**
  * 数据转换结果标识<p>
- *     提供基于注解的数据转换等操作
+ *     提供基于注解的数据转换等操作<p>
+ *     标注在MyBatis的Mapper方法（或Mapper接口）上时，查询结果在MyBatis取数时逐条转换（见{@code DataChangeInterceptor}）
  * @author Hao.
  * @version 2.0
  * @since 2025/2/11 14:51
  */
-@Target(ElementType.METHOD)
+@Target({ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ChangeResult {
 
@@ -51,6 +51,28 @@ public final class StarsProperties {
 
         /** 父主键的列名 */
         private String fieldParentId = "parent_id";
+
+        /**
+         * 版本列的列名（如version、updated_at，修改字典项时需同时更新）<p>
+         *     配置后开启版本轮询：开启缓存时，定时用一条聚合查询比较各数据字典的版本，只重新加载版本变化的数据字典
+         */
+        private String fieldVersion;
+
+        /** 版本轮询的间隔（秒） */
+        private long versionPollInterval = 5L;
+
+        /**
+         * 数据字典快照文件的路径（如/data/stars/dictionary.snapshot）<p>
+         *     配置后开启本地快照：每次从数据库加载数据字典成功后写入快照，启动时读取快照预热缓存；
+         *     数据库不可用导致加载失败时，使用快照中的数据字典
+         */
+        private String snapshotPath;
+
+        /**
+         * 数据库加载失败后，直接使用快照的时间（秒，小于等于0时不使用）<p>
+         *     期间快照中已有的数据字典不再查询数据库，避免数据库不可用时每次加载都等待查询失败；之后的第一次加载重新查询数据库
+         */
+        private long snapshotFallbackWindow = 10L;
     }
 
     @Data
@@ -81,8 +103,9 @@ public final class StarsProperties {
         private long expireAfterWrite = 0L;
 
         /**
-         * 写入后刷新（秒）：高级用法 <p>
-         *  缓存到指定时间后，不会过期。有新请求过来时，会刷新缓存（只会有一个线程去刷新缓存，其他线程拿历史缓存。高并发友好）。<p>
+         * 写入后刷新（秒）：高级用法，只针对数据字典缓存（stars），其他缓存见refreshes <p>
+         *  缓存到指定时间后，不会过期。有新请求过来时，会在后台线程池异步刷新缓存（只会有一个线程去刷新缓存，所有请求直接拿历史缓存，不等待刷新。高并发友好）。<p>
+         *  刷新失败时保留历史缓存，按refreshRetryBackoff退避后重试。<p>
          *  如果长时间没有新请求，就一直不会刷新缓存，导致缓存数据时效率低。所以通常配合expireAfterWrite一起使用：<p>
          *      一般设置refreshAfterWrite < expireAfterWrite，即使长时间没有新请求，缓存也会由expireAfterWrite过期而过期<p>
          *      例：refreshAfterWrite（25 * 60秒） expireAfterWrite（60 * 60秒）<p>
@@ -94,6 +117,21 @@ public final class StarsProperties {
         /** 详细的访问后过期（高优先级）：key-缓存名称 value-访问后过期时间（秒） */
         private Map<String, Long> expires = new HashMap<>();
 
+        /**
+         * 详细的写入后刷新（高优先级）：key-缓存名称 value-写入后刷新时间（秒）<p>
+         *     数据字典缓存（stars）按数据模型名重新加载；其他缓存只刷新通过{@code @Cacheable(sync = true)}加载的缓存项（重新调用被缓存的方法）
+         */
+        private Map<String, Long> refreshes = new HashMap<>();
+
+        /** 异步刷新线程池的线程数（小于等于0时为1） */
+        private int refreshPoolSize = 2;
+
+        /** 异步刷新线程池的队列长度（队列已满时本次不刷新，下次访问时再刷新） */
+        private int refreshQueueCapacity = 256;
+
+        /** 刷新失败后首次重试的间隔（秒），之后每次翻倍，最长为写入后刷新的时间 */
+        private long refreshRetryBackoff = 1L;
+
         /** 缓存的初始容量 */
         private int initialCapacity = 1;
 
@@ -102,6 +140,18 @@ public final class StarsProperties {
 
         /** 缓存的最大容量 */
         private long maximumSize = 10L;
+
+        /**
+         * 底层缓存<p>
+         *     AUTO（默认）：classpath中有Caffeine时使用Caffeine，否则使用Guava<p>
+         *     CAFFEINE：W-TinyLFU淘汰，一次性扫描大量字典不会挤掉常用字典<p>
+         *     GUAVA：LRU淘汰
+         */
+        private Provider provider = Provider.AUTO;
+
+        public enum Provider {
+            AUTO, CAFFEINE, GUAVA
+        }
     }
 
     @Data
@@ -117,5 +167,32 @@ public final class StarsProperties {
 
         /** 是否数据库环境 */
         private boolean db = true;
+
+        /** 是否启用编译转换引擎（按数据模型预编译转换步骤，不支持的数据模型回退到反射转换） */
+        private boolean compiled = false;
+
+        /** 并行转换的阈值：集合的元素个数达到阈值时并行转换（小于等于0时不开启） */
+        private int parallelThreshold = 0;
+
+        /** 并行转换的并行度（小于等于0时使用{@link java.util.concurrent.ForkJoinPool#commonPool()}） */
+        private int parallelism = 0;
+
+        /** 异步转换线程池的线程数（小于等于0时为CPU核数） */
+        private int asyncPoolSize = 0;
+
+        /** 异步转换线程池的队列长度（小于等于0时为1024；队列已满时拒绝，返回异常完成的CompletableFuture） */
+        private int asyncQueueCapacity = 1024;
+
+        /** 是否在启动时预热：扫描@ChangeModel数据模型，创建处理模型，一次加载所有数据字典（开启缓存时放入缓存），并执行几次转换 */
+        private boolean warmUp = false;
+
+        /** 预热时扫描@ChangeModel数据模型的包（为空时使用Spring Boot应用所在的包） */
+        private String[] warmUpPackages = {};
+
+        /** 启动时是否等待预热完成（等待时预热完成后应用才就绪；不等待时在后台线程中预热） */
+        private boolean warmUpWait = false;
+
+        /** 预热时每个数据模型执行转换的次数（用于JIT预热，小于等于0时不执行） */
+        private int warmUpIterations = 200;
     }
 }
@@ -1,9 +1,13 @@
 package com.stars.datachange.mapper;
 
 import com.stars.datachange.autoconfigure.StarsProperties;
+import com.stars.datachange.model.response.DataDictionaryGroup;
 import com.stars.datachange.model.response.DataDictionaryResult;
+import com.stars.datachange.model.response.DataDictionaryVersion;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -21,4 +25,19 @@ public interface StarsDictionaryMapper {
      */
     Set<DataDictionaryResult> findList(@Param("dictionary") StarsProperties.Dictionary dictionary, @Param("key") String key);
 
+    /**
+     * 一次查询多个数据字典
+     * @param dictionary 字典配置
+     * @param keys 字典对象名
+     * @return 按字典对象名分组的字典结果集（不存在的字典对象名不在其中）
+     */
+    List<DataDictionaryGroup> findByNames(@Param("dictionary") StarsProperties.Dictionary dictionary, @Param("keys") Collection<String> keys);
+
+    /**
+     * 查询各数据字典的版本（一条聚合查询）
+     * @param dictionary 字典配置（版本列见{@link StarsProperties.Dictionary#getFieldVersion()}）
+     * @return 按字典对象名聚合的最大版本、字典项个数
+     */
+    List<DataDictionaryVersion> findVersions(@Param("dictionary") StarsProperties.Dictionary dictionary);
+
 }
\ No newline at end of file
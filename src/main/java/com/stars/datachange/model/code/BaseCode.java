@@ -1,9 +1,6 @@
 package com.stars.datachange.model.code;
 
 import com.stars.datachange.utils.StringUtils;
-import lombok.SneakyThrows;
-
-import java.util.Objects;
 
 /**
  * 字典规范<p>
@@ -46,7 +43,6 @@ public interface BaseCode {
         return change(modelCode, t, null, v);
     }
 
-    @SneakyThrows
     static String change(Class<? extends Enum> modelCode, String t, String k, String v) {
         final boolean empty = StringUtils.isEmpty(k) && StringUtils.isEmpty(v);
         final boolean notEmpty = StringUtils.isNotEmpty(k) && StringUtils.isNotEmpty(v);
@@ -54,24 +50,11 @@ public interface BaseCode {
             return null;
         }
 
-        for (Enum o : modelCode.getEnumConstants()) {
-            Object finalt = modelCode.getMethod("t").invoke(o);
-            Object finalk = modelCode.getMethod("k").invoke(o);
-            Object finalv = modelCode.getMethod("v").invoke(o);
-
-            if (!Objects.equals(StringUtils.valueOf(finalt), t)) {
-                continue;
-            }
-
-            if (StringUtils.isNotEmpty(k) && k.equals(StringUtils.valueOf(finalk))) {
-                return StringUtils.valueOf(finalv);
-            }
-
-            if (StringUtils.isNotEmpty(v) && v.equals(StringUtils.valueOf(finalv))) {
-                return StringUtils.valueOf(finalk);
-            }
+        final BaseCodeIndex index = BaseCodeIndex.of(modelCode);
+        if (StringUtils.isNotEmpty(k)) {
+            return index.values(t).getOrDefault(k, k);
         }
-        return StringUtils.isEmpty(k) ? v : k;
+        return index.keys(t).getOrDefault(v, v);
     }
 
     /**
@@ -0,0 +1,84 @@
+package com.stars.datachange.model.code;
+
+import com.stars.datachange.exception.ChangeModelException;
+import com.stars.datachange.utils.StringUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 字典枚举索引<p>
+ *     每个字典枚举只创建一次：属性名 → (属性代码 → 属性值)、属性名 → (属性值 → 属性代码)
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 10:30
+ */
+public final class BaseCodeIndex {
+
+    private static final ClassValue<BaseCodeIndex> INDEX = new ClassValue<BaseCodeIndex>() {
+        @Override
+        protected BaseCodeIndex computeValue(Class<?> type) {
+            return new BaseCodeIndex(type);
+        }
+    };
+
+    /** 属性名 → (属性代码 → 属性值) */
+    private final Map<String, Map<String, String>> values;
+
+    /** 属性名 → (属性值 → 属性代码) */
+    private final Map<String, Map<String, String>> keys;
+
+    private BaseCodeIndex(Class<?> modelCode) {
+        if (!BaseCode.class.isAssignableFrom(modelCode)) {
+            throw new ChangeModelException(String.format("%s must be implements com.stars.datachange.model.code.BaseCode", modelCode.getName()));
+        }
+        Map<String, Map<String, String>> values = new HashMap<>();
+        Map<String, Map<String, String>> keys = new HashMap<>();
+        for (Object o : modelCode.getEnumConstants()) {
+            final BaseCode code = (BaseCode) o;
+            final String t = StringUtils.valueOf(code.t());
+            final String k = StringUtils.valueOf(code.k());
+            final String v = StringUtils.valueOf(code.v());
+            // 同名同代码时，以先定义的枚举为准
+            values.computeIfAbsent(t, o_ -> new HashMap<>()).putIfAbsent(k, v);
+            keys.computeIfAbsent(t, o_ -> new HashMap<>()).putIfAbsent(v, k);
+        }
+        this.values = freeze(values);
+        this.keys = freeze(keys);
+    }
+
+    /**
+     * 获取字典枚举索引
+     * @param modelCode 字典枚举
+     * @return BaseCodeIndex
+     * @author Hao.
+     * @since 2026/10/17 10:30
+     */
+    public static BaseCodeIndex of(Class<? extends Enum> modelCode) {
+        return INDEX.get(modelCode);
+    }
+
+    /**
+     * 属性代码 → 属性值
+     * @param t 属性名
+     * @return 只读的对照表（属性名不存在时为空表）
+     */
+    public Map<String, String> values(String t) {
+        return values.getOrDefault(t, Collections.emptyMap());
+    }
+
+    /**
+     * 属性值 → 属性代码
+     * @param t 属性名
+     * @return 只读的对照表（属性名不存在时为空表）
+     */
+    public Map<String, String> keys(String t) {
+        return keys.getOrDefault(t, Collections.emptyMap());
+    }
+
+    private static Map<String, Map<String, String>> freeze(Map<String, Map<String, String>> map) {
+        map.replaceAll((k, v) -> Collections.unmodifiableMap(v));
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -0,0 +1,20 @@
+package com.stars.datachange.model.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 数据字典分组模型（一次查询多个数据字典时，按数据模型名分组）
+ * @author Hao.
+ * @since 2026/10/17 20:00
+ */
+@Data
+public class DataDictionaryGroup {
+
+    /** 数据模型名（对应@ChangeModel中的 modelName） */
+    private String key;
+
+    /** 数据字典结果集 */
+    private List<DataDictionaryResult> results;
+}
@@ -0,0 +1,21 @@
+package com.stars.datachange.model.response;
+
+import lombok.Data;
+
+/**
+ * 数据字典版本模型（版本轮询时，按数据模型名聚合）
+ * @author Hao.
+ * @since 2026/10/18 00:00
+ */
+@Data
+public class DataDictionaryVersion {
+
+    /** 数据模型名（对应@ChangeModel中的 modelName） */
+    private String key;
+
+    /** 字典项的最大版本（版本列的最大值） */
+    private String version;
+
+    /** 字典项的个数（删除字典项时版本不一定变化，按个数识别） */
+    private Long total;
+}
@@ -0,0 +1,132 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.autoconfigure.StarsProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 异步转换<p>
+ *     转换在专用的有界线程池中执行，调用线程不会阻塞在数据字典的加载上（冷启动时的数据库查询）<p>
+ *     线程数由{@code stars.config.async-pool-size}指定（小于等于0时为CPU核数），队列长度由{@code stars.config.async-queue-capacity}指定；
+ *     队列已满时拒绝，返回以{@link RejectedExecutionException}异常完成的CompletableFuture<p>
+ *     专用线程池在首次使用时创建，应用关闭时由{@link ConversionPools}关闭
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 21:00
+ */
+public final class AsyncConversion {
+
+    /** 线程池的默认队列长度 */
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /** 专用线程池（首次使用时创建，配置变更后重建） */
+    private static volatile Pool pool;
+
+    /** 配置变更后被替换的线程池（其他线程可能仍在使用，关闭时一并关闭） */
+    private static final List<Pool> RETIRED = new ArrayList<>();
+
+    private AsyncConversion() {
+    }
+
+    /**
+     * 异步执行
+     * @param task 转换任务
+     * @return CompletableFuture
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor());
+        } catch (RejectedExecutionException e) {
+            final CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    /**
+     * 异步转换的线程池
+     * @return Executor
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static Executor executor() {
+        final int poolSize = poolSize();
+        final int queueCapacity = queueCapacity();
+        Pool pool = AsyncConversion.pool;
+        if (Objects.isNull(pool) || !pool.matches(poolSize, queueCapacity)) {
+            synchronized (AsyncConversion.class) {
+                pool = AsyncConversion.pool;
+                if (Objects.isNull(pool) || !pool.matches(poolSize, queueCapacity)) {
+                    // 不关闭旧线程池：其他线程可能仍在向其提交任务，关闭时一并关闭
+                    if (Objects.nonNull(pool)) {
+                        RETIRED.add(pool);
+                    }
+                    pool = new Pool(poolSize, queueCapacity);
+                    AsyncConversion.pool = pool;
+                }
+            }
+        }
+        return pool.executor;
+    }
+
+    /**
+     * 关闭专用线程池（应用关闭时调用）：已提交的转换执行完后线程退出；之后再异步转换时重新创建
+     * @author Hao.
+     * @since 2026/10/18 01:00
+     */
+    public static void shutdown() {
+        synchronized (AsyncConversion.class) {
+            if (Objects.nonNull(pool)) {
+                pool.executor.shutdown();
+                pool = null;
+            }
+            RETIRED.forEach(o -> o.executor.shutdown());
+            RETIRED.clear();
+        }
+    }
+
+    private static int poolSize() {
+        final int poolSize = Objects.isNull(StarsProperties.config) ? 0 : StarsProperties.config.getAsyncPoolSize();
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static int queueCapacity() {
+        final int queueCapacity = Objects.isNull(StarsProperties.config) ? 0 : StarsProperties.config.getAsyncQueueCapacity();
+        return queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY;
+    }
+
+    /**
+     * 线程池及其配置
+     */
+    private static final class Pool {
+
+        private final int poolSize;
+
+        private final int queueCapacity;
+
+        private final ThreadPoolExecutor executor;
+
+        private Pool(int poolSize, int queueCapacity) {
+            this.poolSize = poolSize;
+            this.queueCapacity = queueCapacity;
+            final AtomicInteger index = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), r -> {
+                final Thread thread = new Thread(r, "stars-datachange-async-" + index.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+
+        private boolean matches(int poolSize, int queueCapacity) {
+            return this.poolSize == poolSize && this.queueCapacity == queueCapacity;
+        }
+    }
+}
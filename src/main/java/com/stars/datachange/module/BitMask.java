@@ -0,0 +1,239 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.model.code.BaseCodeIndex;
+import com.stars.datachange.utils.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 位运算转换表<p>
+ *     每个字典字段只创建一次：位下标 → 属性值（共64位），属性值 → 位掩码<p>
+ *     转换时按{@link Long#numberOfTrailingZeros}遍历值为1的位，直接写入拼接结果；反转（V转K）时把多选值合并为位掩码
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 17:30
+ */
+@Slf4j
+public final class BitMask {
+
+    /** 多选值的分割符 */
+    public static final char DELIMITER = ',';
+
+    /** 位下标 → 代码（1、2、4、8…） */
+    private static final String[] CODES = new String[Long.SIZE];
+
+    static {
+        for (int i = 0; i < Long.SIZE; i++) {
+            CODES[i] = Long.toString(1L << i);
+        }
+    }
+
+    /** 字典枚举：属性名 → 位运算转换表 */
+    private static final ClassValue<ConcurrentMap<String, BitMask>> ENUM = new ClassValue<ConcurrentMap<String, BitMask>>() {
+        @Override
+        protected ConcurrentMap<String, BitMask> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /** 代码 → 值（非位运算的值按多选值转换时使用） */
+    private final Map<String, String> values;
+
+    /** 位下标 → 值（未定义的位为代码本身） */
+    private final String[] labels = new String[Long.SIZE];
+
+    /** 值 → 位掩码 */
+    private final Map<String, Long> masks;
+
+    /**
+     * 创建位运算转换表
+     * @param values 代码 → 值的对照表
+     */
+    public BitMask(Map<String, String> values) {
+        this.values = values;
+        Map<String, Long> masks = new HashMap<>();
+        for (int i = 0; i < Long.SIZE; i++) {
+            labels[i] = values.containsKey(CODES[i]) ? values.get(CODES[i]) : CODES[i];
+            if (StringUtils.isNotEmpty(labels[i])) {
+                masks.putIfAbsent(labels[i], 1L << i);
+            }
+        }
+        this.masks = Collections.unmodifiableMap(masks);
+    }
+
+    /**
+     * 获取字典枚举的位运算转换表
+     * @param modelCode 字典枚举
+     * @param name 属性名
+     * @return BitMask
+     * @author Hao.
+     * @since 2026/10/17 17:30
+     */
+    public static BitMask of(Class<? extends Enum> modelCode, String name) {
+        return ENUM.get(modelCode).computeIfAbsent(name, k -> new BitMask(BaseCodeIndex.of(modelCode).values(k)));
+    }
+
+    /**
+     * 转换
+     * @param o 属性原值
+     * @param rollback 是否反转（V转K）
+     * @return 转换后的多选值（逗号分割）；反转时为位掩码
+     */
+    public String change(Object o, boolean rollback) {
+        return rollback ? encode(o) : decode(o);
+    }
+
+    /**
+     * 位掩码 → 多选值
+     * @param o 位数值
+     * @return 多选值（逗号分割）
+     */
+    public String decode(Object o) {
+        if (!isMask(o)) {
+            log.warn("Bit operations is not possible, Please provide a valid bit operations value!");
+            return translate(o.toString());
+        }
+        final long mask = mask(o);
+        return decode(mask, new StringBuilder(Long.bitCount(mask) << 3)).toString();
+    }
+
+    /**
+     * 位掩码 → 多选值
+     * @param mask 位掩码
+     * @param sb 拼接结果（追加到末尾）
+     * @return sb
+     */
+    public StringBuilder decode(long mask, StringBuilder sb) {
+        final int start = sb.length();
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            final String label = labels[Long.numberOfTrailingZeros(bits)];
+            if (StringUtils.isEmpty(label)) {
+                continue;
+            }
+            if (sb.length() > start) {
+                sb.append(DELIMITER);
+            }
+            sb.append(label);
+        }
+        return sb;
+    }
+
+    /**
+     * 多选值 → 位掩码
+     * @param o 多选值（逗号分割，可以是值或代码）
+     * @return 位掩码
+     */
+    public String encode(Object o) {
+        if (o instanceof Number) {
+            return o.toString();
+        }
+        final String s = o.toString();
+        long mask = 0;
+        for (int start = 0, end; start <= s.length(); start = end + 1) {
+            end = s.indexOf(DELIMITER, start);
+            if (end < 0) {
+                end = s.length();
+            }
+            if (end == start) {
+                continue;
+            }
+            final String label = s.substring(start, end);
+            final Long bit = masks.get(label);
+            if (Objects.nonNull(bit)) {
+                mask |= bit;
+            } else if (isNumber(label)) {
+                mask |= Long.parseLong(label);
+            } else {
+                log.warn("The value [{}] is not defined in bit operations, skipped.", label);
+            }
+        }
+        return Long.toString(mask);
+    }
+
+    /**
+     * 非位数值按多选值（逗号分割）转换
+     */
+    private String translate(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int start = 0, end; start <= s.length(); start = end + 1) {
+            end = s.indexOf(DELIMITER, start);
+            if (end < 0) {
+                end = s.length();
+            }
+            final String code = s.substring(start, end);
+            final String label = values.getOrDefault(code, code);
+            if (StringUtils.isEmpty(label)) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(DELIMITER);
+            }
+            sb.append(label);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 是否为位数值
+     * @param o 属性原值
+     * @return boolean
+     */
+    public static boolean isMask(Object o) {
+        if (o instanceof Long || o instanceof Integer || o instanceof Short || o instanceof Byte) {
+            return true;
+        }
+        return !(o instanceof Number) && isNumber(o.toString());
+    }
+
+    /**
+     * 位掩码（int范围内的负数按32位处理）
+     * @param o 位数值（{@link BitMask#isMask}为true）
+     * @return long
+     */
+    public static long mask(Object o) {
+        final long mask = o instanceof Number ? ((Number) o).longValue() : Long.parseLong(o.toString());
+        return mask < 0 && mask >= Integer.MIN_VALUE ? mask & 0xFFFFFFFFL : mask;
+    }
+
+    /**
+     * 位下标对应的代码
+     * @param index 位下标
+     * @return 1、2、4、8…
+     */
+    public static String code(int index) {
+        return CODES[index];
+    }
+
+    /**
+     * 是否为整数（不使用正则）
+     */
+    private static boolean isNumber(String s) {
+        final int length = s.length();
+        int i = length > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+') ? 1 : 0;
+        if (i == length || length - i > 19) {
+            return false;
+        }
+        for (; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return length < 19 || isLong(s);
+    }
+
+    private static boolean isLong(String s) {
+        try {
+            Long.parseLong(s);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
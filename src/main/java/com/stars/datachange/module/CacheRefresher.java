@@ -0,0 +1,138 @@
+package com.stars.datachange.module;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 缓存的异步刷新（stale-while-revalidate）<p>
+ *     缓存项写入后超过刷新时间时，访问的线程直接返回当前值，同时把重新加载提交到有界线程池；同一个缓存项同时只有一次刷新<p>
+ *     刷新成功后替换缓存项（缓存项已被移除或替换时不写入）；刷新失败时保留当前值，按退避间隔（每次翻倍，最长为刷新时间）后再刷新
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 23:30
+ */
+@Slf4j
+final class CacheRefresher {
+
+    /** 退避间隔翻倍的最大次数 */
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    /** 写入后刷新的时间（纳秒） */
+    private final long interval;
+
+    /** 刷新失败后首次重试的间隔（纳秒） */
+    private final long backoff;
+
+    /** 缓存的加载方法：key → 值（为null时只刷新带有加载方法的缓存项） */
+    private final Function<Object, Object> loader;
+
+    /** 刷新线程池 */
+    private final Executor executor;
+
+    /**
+     * 创建缓存的异步刷新
+     * @param interval 写入后刷新的时间（秒）
+     * @param backoff 刷新失败后首次重试的间隔（秒）
+     * @param loader 缓存的加载方法（可以为null）
+     * @param executor 刷新线程池
+     */
+    CacheRefresher(long interval, long backoff, Function<Object, Object> loader, Executor executor) {
+        this.interval = TimeUnit.SECONDS.toNanos(interval);
+        this.backoff = Math.max(TimeUnit.SECONDS.toNanos(backoff), 1L);
+        this.loader = loader;
+        this.executor = executor;
+    }
+
+    /**
+     * 包装缓存值
+     * @param value 缓存值（已转换为存储值）
+     * @param loader 缓存项的加载方法（可以为null）
+     * @return Entry
+     */
+    Entry wrap(Object value, Callable<?> loader) {
+        return new Entry(value, loader, System.nanoTime() + interval);
+    }
+
+    /**
+     * 读取缓存值，到达刷新时间时提交异步刷新
+     * @param cache 缓存
+     * @param key 缓存的key
+     * @param stored 缓存项
+     * @return 缓存值（未缓存时为null）
+     */
+    Object read(StarsCache cache, Object key, Object stored) {
+        if (!(stored instanceof Entry)) {
+            return stored;
+        }
+        final Entry entry = (Entry) stored;
+        if (System.nanoTime() - entry.refreshAt >= 0 && (Objects.nonNull(entry.loader) || Objects.nonNull(loader))
+                && entry.refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> refresh(cache, key, entry));
+            } catch (RejectedExecutionException e) {
+                // 队列已满，下次访问时再刷新
+                entry.refreshing.set(false);
+            }
+        }
+        return entry.value;
+    }
+
+    private void refresh(StarsCache cache, Object key, Entry entry) {
+        final Object value;
+        try {
+            value = Objects.nonNull(entry.loader) ? entry.loader.call() : loader.apply(key);
+        } catch (Throwable e) {
+            final long delay = Math.min(backoff << Math.min(entry.failures++, MAX_BACKOFF_SHIFT), interval);
+            entry.refreshAt = System.nanoTime() + delay;
+            entry.refreshing.set(false);
+            log.warn("Failed to refresh cache [{}] key [{}], keep the stale value and retry after {} ms. cause: {}", cache.getName(), key, TimeUnit.NANOSECONDS.toMillis(delay), e.toString());
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            return;
+        }
+        cache.refreshed(key, entry, value);
+    }
+
+    /**
+     * 缓存项：缓存值及其刷新状态
+     */
+    static final class Entry {
+
+        /** 缓存值（存储值） */
+        private final Object value;
+
+        /** 缓存项的加载方法（{@code @Cacheable(sync = true)}时为被缓存的方法） */
+        private final Callable<?> loader;
+
+        /** 下次刷新的时间（{@link System#nanoTime()}） */
+        private volatile long refreshAt;
+
+        /** 是否正在刷新 */
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        /** 连续刷新失败的次数（只在刷新线程中修改） */
+        private int failures;
+
+        private Entry(Object value, Callable<?> loader, long refreshAt) {
+            this.value = value;
+            this.loader = loader;
+            this.refreshAt = refreshAt;
+        }
+
+        Object getValue() {
+            return value;
+        }
+
+        Callable<?> getLoader() {
+            return loader;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.stars.datachange.module;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于Caffeine的缓存（classpath中有Caffeine时使用）<p>
+ *     淘汰策略为W-TinyLFU：新缓存项需要比被淘汰的缓存项访问更频繁才会被保留，一次性扫描大量字典不会挤掉常用字典<p>
+ *     未命中时按key单飞加载（{@link Cache#get}），加载中的状态随缓存项一起回收
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 23:00
+ */
+final class CaffeineStore implements StarsCache.Store {
+
+    private final Cache<Object, Object> cache;
+
+    private CaffeineStore(Cache<Object, Object> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * 创建缓存
+     * @param expireAfterAccess 访问后过期（秒，小于等于0时不过期）
+     * @param expireAfterWrite 写入后过期（秒，小于等于0时不过期）
+     * @param initialCapacity 初始容量（小于等于0时为默认值）
+     * @param maximumSize 最大容量（小于等于0时不限制）
+     * @return StarsCache.Store
+     * @author Hao.
+     * @since 2026/10/17 23:00
+     */
+    static StarsCache.Store create(long expireAfterAccess, long expireAfterWrite, int initialCapacity, long maximumSize) {
+        final Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (expireAfterAccess > 0) {
+            builder.expireAfterAccess(expireAfterAccess, TimeUnit.SECONDS);
+        }
+        if (expireAfterWrite > 0) {
+            builder.expireAfterWrite(expireAfterWrite, TimeUnit.SECONDS);
+        }
+        if (initialCapacity > 0) {
+            builder.initialCapacity(initialCapacity);
+        }
+        if (maximumSize > 0) {
+            builder.maximumSize(maximumSize);
+        }
+        return new CaffeineStore(builder.build());
+    }
+
+    @Override
+    public Object getIfPresent(Object key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public Object get(Object key, Callable<Object> loader) {
+        return cache.get(key, k -> {
+            try {
+                return loader.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public Object putIfAbsent(Object key, Object value) {
+        return cache.asMap().putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean replace(Object key, Object oldValue, Object newValue) {
+        return cache.asMap().replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return cache.asMap().remove(key, value);
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public Object nativeCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,67 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.exception.ChangeModelPropertyException;
+import com.stars.datachange.utils.StringUtils;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+/**
+ * 数据模型转换器<p>
+ *     用于数据转换（转换到原对象），由编译转换引擎（{@link CompiledConverter}）
+ *     或注解处理器（stars-datachange-processor，通过{@link ConverterRegistry}发现）生成
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 15:00
+ */
+public interface ChangeConverter {
+
+    /**
+     * 数据模型
+     * @return Class
+     */
+    Class<?> type();
+
+    /**
+     * 生成转换器时使用的映射属性后缀<p>
+     *     与当前配置（{@code stars.config.mapping-suffix}）不一致时，转换器不会被使用
+     * @return String[]
+     */
+    String[] mappingSuffix();
+
+    /**
+     * 数据转换（转换到原对象）
+     * @param data 数据
+     * @param dictionary 数据字典索引（数据转换来源不是DB时为null）
+     * @param rollback 是否反转（V转K）
+     */
+    void convert(Object data, DataDictionaryIndex dictionary, boolean rollback);
+
+    /**
+     * 字典枚举转换
+     * @param s 属性原值
+     * @param table 代码 → 值（或 值 → 代码）的对照表
+     * @return 转义后的值
+     */
+    static String change(String s, Map<String, String> table) {
+        return StringUtils.isEmpty(s) ? null : table.getOrDefault(s, s);
+    }
+
+    /**
+     * 获取属性访问器（含父类的属性）<p>
+     *     供生成的转换器访问无法直接读写的属性
+     * @param type 数据模型
+     * @param name 属性名
+     * @return FieldAccessor
+     */
+    static FieldAccessor accessor(Class<?> type, String name) {
+        for (Class<?> c = type; c != null && !c.equals(Object.class); c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    return new FieldAccessor(field);
+                }
+            }
+        }
+        throw new ChangeModelPropertyException(String.format("Property not found [%s] !", name));
+    }
+}
@@ -22,4 +22,40 @@ public interface Compatible {
      * @since  2021/9/7 9:55
      */
     void run(Class<?> dataClass, Map<String, Object> result, Collection<Class<? extends Annotation>> annotations);
+
+    /**
+     * 编译兼容模型<p>
+     *     每个数据模型只调用一次，返回的处理器会被缓存并用于该数据模型的每一条数据；
+     *     默认每次都运行{@link Compatible#run}，实现类可以重写此方法，预先解析需要处理的属性
+     * @param dataClass 数据模型
+     * @param annotations 要兼容的注解
+     * @return 兼容处理器
+     * @author Hao.
+     * @since 2026/10/17 17:00
+     */
+    default Handler compile(Class<?> dataClass, Collection<Class<? extends Annotation>> annotations) {
+        return result -> run(dataClass, result, annotations);
+    }
+
+    /**
+     * 兼容处理器
+     */
+    @FunctionalInterface
+    interface Handler {
+
+        /**
+         * 处理数据转换结果集
+         * @param result 数据转换结果集
+         */
+        void apply(Map<String, Object> result);
+
+        /**
+         * 处理数据转换结果集（需要转换上下文的处理器重写此方法）
+         * @param result 数据转换结果集
+         * @param context 数据转换上下文
+         */
+        default void apply(Map<String, Object> result, ConversionContext context) {
+            apply(result);
+        }
+    }
 }
@@ -0,0 +1,156 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.annotation.ChangeModel;
+import com.stars.datachange.autoconfigure.StarsProperties;
+import com.stars.datachange.model.code.BaseCodeIndex;
+import com.stars.datachange.utils.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 编译转换引擎<p>
+ *     按数据模型把每个需要转换的属性预编译为一个转换步骤：读源属性 → 查预先解析的对照表 → 写映射属性，转换时不再做逐属性的判断<p>
+ *     通过{@code stars.config.compiled=true}开启；数据模型中存在重入属性时，回退到反射转换<p>
+ *     PS: 没有生成字节码，而是用闭包组合转换步骤——Java 8 下生成的类无法直接访问数据模型的私有属性
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 14:00
+ */
+@Slf4j
+public final class CompiledConverter implements ChangeConverter {
+
+    /** 数据模型 */
+    private final Class<?> type;
+
+    /** 编译时的映射属性后缀 */
+    private final String[] mappingSuffix;
+
+    /** 转换步骤 */
+    private final Step[] steps;
+
+    private CompiledConverter(Class<?> type, List<Step> steps) {
+        this.type = type;
+        this.mappingSuffix = Process.mappingSuffix();
+        this.steps = steps.toArray(new Step[0]);
+    }
+
+    /**
+     * 是否启用编译转换引擎
+     * @return boolean
+     */
+    public static boolean enabled() {
+        return Objects.nonNull(StarsProperties.config) && StarsProperties.config.isCompiled();
+    }
+
+    /**
+     * 编译数据模型
+     * @param dataClass 数据模型
+     * @param process 数据转换处理模型（需包含属性访问器、映射属性的访问器）
+     * @return 编译后的转换器；不支持编译时返回null
+     * @author Hao.
+     * @since 2026/10/17 14:00
+     */
+    public static CompiledConverter compile(Class<?> dataClass, Process process) {
+        if (!CollectionUtils.isEmpty(process.getReentrantFields())) {
+            return null;
+        }
+        List<Step> steps = new ArrayList<>();
+        if (process.getSource().equals(ChangeModel.Source.NONE)) {
+            return new CompiledConverter(dataClass, steps);
+        }
+        for (FieldAccessor accessor : process.getAccessors().values()) {
+            final FieldAccessor target = process.getTargets().get(accessor.getField());
+            if (Objects.nonNull(target)) {
+                steps.add(step(process, accessor, target));
+            }
+        }
+        return new CompiledConverter(dataClass, steps);
+    }
+
+    @Override
+    public Class<?> type() {
+        return type;
+    }
+
+    @Override
+    public String[] mappingSuffix() {
+        return mappingSuffix;
+    }
+
+    @Override
+    public void convert(Object data, DataDictionaryIndex dictionary, boolean rollback) {
+        for (Step step : steps) {
+            step.apply(data, dictionary, rollback);
+        }
+    }
+
+    private static Step step(Process process, FieldAccessor source, FieldAccessor target) {
+        final String name = source.getField().getName();
+        final String alias = StringUtils.other(process.getAlias().get(name), name);
+        final boolean enumSource = process.getSource().equals(ChangeModel.Source.ENUM);
+        final Class<? extends Enum> modelCode = process.getModelCode();
+
+        // 位运算转换：字典枚举的位运算转换表在编译时解析
+        if (process.isBitOperation(name)) {
+            final BitMask bitMask = enumSource ? BitMask.of(modelCode, alias) : null;
+            return (data, dictionary, rollback) -> {
+                final Object value = source.get(data);
+                if (Objects.isNull(value)) {
+                    return;
+                }
+                target.set(data, (enumSource ? bitMask : dictionary.entry(alias).bitMask()).change(value, rollback));
+            };
+        }
+
+        // 分割转换：分割器与映射属性的类型在编译时解析，字典枚举的对照表同样
+        if (process.isSplit(name)) {
+            final SplitTokenizer tokenizer = process.splitTokenizer(name);
+            final Class<?> type = target.getField().getType();
+            final Map<String, String> values = enumSource ? BaseCodeIndex.of(modelCode).values(alias) : null;
+            final Map<String, String> keys = enumSource ? BaseCodeIndex.of(modelCode).keys(alias) : null;
+            return (data, dictionary, rollback) -> {
+                final Object value = source.get(data);
+                if (Objects.isNull(value)) {
+                    return;
+                }
+                final Map<String, String> table = enumSource ? (rollback ? keys : values) : dictionary.entry(alias).table(rollback);
+                target.set(data, tokenizer.convert(value.toString(), table, type));
+            };
+        }
+
+        // 转换：字典枚举的对照表在编译时解析
+        if (enumSource) {
+            final Map<String, String> values = BaseCodeIndex.of(modelCode).values(alias);
+            final Map<String, String> keys = BaseCodeIndex.of(modelCode).keys(alias);
+            return (data, dictionary, rollback) -> {
+                final Object value = source.get(data);
+                if (Objects.isNull(value)) {
+                    return;
+                }
+                final String s = value.toString();
+                target.set(data, StringUtils.isEmpty(s) ? null : (rollback ? keys : values).getOrDefault(s, s));
+            };
+        }
+        return (data, dictionary, rollback) -> {
+            final Object value = source.get(data);
+            if (Objects.isNull(value)) {
+                return;
+            }
+            target.set(data, dictionary.entry(alias).change(value.toString(), rollback));
+        };
+    }
+
+    /**
+     * 转换步骤
+     */
+    @FunctionalInterface
+    private interface Step {
+
+        void apply(Object data, DataDictionaryIndex dictionary, boolean rollback);
+    }
+}
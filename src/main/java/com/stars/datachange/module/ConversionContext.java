@@ -0,0 +1,107 @@
+package com.stars.datachange.module;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 数据转换上下文（不可变）<p>
+ *     转换方向、区域、自定义选项随每次转换显式传递，不依赖ThreadLocal，可在并行转换、异步线程池、虚拟线程中安全使用<p>
+ *     例：{@code DataChangeUtils.dataChangeToBean(list, ConversionContext.of(true).withOption("tenant", tenantId))}
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 22:00
+ */
+public final class ConversionContext {
+
+    /** 默认上下文（K转V） */
+    public static final ConversionContext DEFAULT = new ConversionContext(false, null, Collections.emptyMap());
+
+    /** 反转的上下文（V转K） */
+    public static final ConversionContext ROLLBACK = new ConversionContext(true, null, Collections.emptyMap());
+
+    /** 是否反转（V转K） */
+    private final boolean rollback;
+
+    /** 区域（为null时使用系统默认）：{@link DefaultCompatible}按此区域格式化{@code @JsonFormat}日期（注解指定了locale时以注解为准） */
+    private final Locale locale;
+
+    /** 自定义选项（供扩展模块使用，如：{@link Compatible.Handler#apply(Map, ConversionContext)}） */
+    private final Map<String, Object> options;
+
+    private ConversionContext(boolean rollback, Locale locale, Map<String, Object> options) {
+        this.rollback = rollback;
+        this.locale = locale;
+        this.options = options;
+    }
+
+    /**
+     * 获取数据转换上下文
+     * @param rollback 是否反转（V转K）
+     * @return ConversionContext
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static ConversionContext of(boolean rollback) {
+        return rollback ? ROLLBACK : DEFAULT;
+    }
+
+    public boolean isRollback() {
+        return rollback;
+    }
+
+    public Locale getLocale() {
+        return Objects.isNull(locale) ? Locale.getDefault() : locale;
+    }
+
+    public Map<String, Object> getOptions() {
+        return options;
+    }
+
+    /**
+     * 获取自定义选项
+     * @param name 选项名
+     * @return 选项值（不存在时为null）
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOption(String name) {
+        return (T) options.get(name);
+    }
+
+    /**
+     * 指定转换方向
+     * @param rollback 是否反转（V转K）
+     * @return 新的数据转换上下文
+     */
+    public ConversionContext withRollback(boolean rollback) {
+        return rollback == this.rollback ? this : new ConversionContext(rollback, locale, options);
+    }
+
+    /**
+     * 指定区域
+     * @param locale 区域
+     * @return 新的数据转换上下文
+     */
+    public ConversionContext withLocale(Locale locale) {
+        return new ConversionContext(rollback, locale, options);
+    }
+
+    /**
+     * 添加自定义选项
+     * @param name 选项名
+     * @param value 选项值
+     * @return 新的数据转换上下文
+     */
+    public ConversionContext withOption(String name, Object value) {
+        Map<String, Object> options = new LinkedHashMap<>(this.options);
+        options.put(name, value);
+        return new ConversionContext(rollback, locale, Collections.unmodifiableMap(options));
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionContext{rollback=" + rollback + ", locale=" + locale + ", options=" + options + '}';
+    }
+}
@@ -0,0 +1,21 @@
+package com.stars.datachange.module;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 转换线程池的生命周期<p>
+ *     并行转换、异步转换的专用线程池在首次使用时创建，应用关闭时在这里关闭
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+@Component
+public class ConversionPools implements DisposableBean {
+
+    @Override
+    public void destroy() {
+        ParallelConversion.shutdown();
+        AsyncConversion.shutdown();
+    }
+}
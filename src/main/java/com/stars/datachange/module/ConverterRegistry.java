@@ -0,0 +1,75 @@
+package com.stars.datachange.module;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 生成的转换器注册表<p>
+ *     注解处理器（stars-datachange-processor）在编译期为{@code @ChangeModel}数据模型生成转换器：
+ *     与数据模型同包，类名为数据模型的类名（内部类以“_”连接）加上{@link ConverterRegistry#SUFFIX}<p>
+ *     找不到对应的转换器时，回退到编译转换引擎或反射转换
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 15:00
+ */
+@Slf4j
+public final class ConverterRegistry {
+
+    /** 生成的转换器的类名后缀 */
+    public static final String SUFFIX = "_StarsConverter";
+
+    private ConverterRegistry() {
+    }
+
+    /**
+     * 获取生成的转换器<p>
+     *     只在创建数据转换处理模型时调用一次，结果随处理模型一起缓存
+     * @param dataClass 数据模型
+     * @return 生成的转换器；不存在或映射属性后缀与当前配置不一致时返回null
+     * @author Hao.
+     * @since 2026/10/17 15:00
+     */
+    public static ChangeConverter get(Class<?> dataClass) {
+        final ClassLoader classLoader = dataClass.getClassLoader();
+        if (Objects.isNull(classLoader)) {
+            return null;
+        }
+        final Class<?> type;
+        try {
+            type = Class.forName(name(dataClass), true, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!ChangeConverter.class.isAssignableFrom(type)) {
+            return null;
+        }
+        final ChangeConverter converter;
+        try {
+            converter = (ChangeConverter) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Failed to create generated converter of {}, switched back to reflection: {}", dataClass.getName(), e.toString());
+            return null;
+        }
+        if (!dataClass.equals(converter.type())) {
+            return null;
+        }
+        if (!Arrays.equals(converter.mappingSuffix(), Process.mappingSuffix())) {
+            log.warn("Generated converter of {} is ignored, the mapping suffix has changed since it was generated.", dataClass.getName());
+            return null;
+        }
+        return converter;
+    }
+
+    /**
+     * 生成的转换器的类名
+     * @param dataClass 数据模型
+     * @return 全限定类名
+     */
+    public static String name(Class<?> dataClass) {
+        final String name = dataClass.getName();
+        final int index = name.lastIndexOf('.');
+        return name.substring(0, index + 1) + name.substring(index + 1).replace('$', '_') + SUFFIX;
+    }
+}
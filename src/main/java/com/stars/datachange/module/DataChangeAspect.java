@@ -4,15 +4,32 @@ import com.stars.datachange.annotation.ChangeModel;
 import com.stars.datachange.annotation.ChangeResult;
 import com.stars.datachange.exception.ChangeResultException;
 import com.stars.datachange.utils.DataChangeUtils;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.apache.ibatis.binding.MapperProxy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
 import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
- * 基于注解的数据转换模块
+ * 基于注解的数据转换模块<p>
+ *     支持的返回值：数组、单列集合、数据模型、{@link CompletableFuture}（完成时转换）；
+ *     引入Reactor时，还支持Mono、Flux（元素流经时逐个转换，见{@link ReactiveChangeResult}）<p>
+ *     MyBatis的Mapper代理上的方法由{@link DataChangeInterceptor}在查询时转换，这里不再转换
  * @author Hao.
  * @version 2.0
  * @since 2025/2/13 15:43
@@ -21,13 +38,57 @@ import java.util.Collection;
 @Component
 public class DataChangeAspect {
 
+	/** 是否引入了Reactor（可选依赖） */
+	private static final boolean REACTOR = ClassUtils.isPresent("reactor.core.publisher.Flux", DataChangeAspect.class.getClassLoader());
+
+	/** MyBatis插件（未启用时为空） */
+	@Autowired
+	private ObjectProvider<DataChangeInterceptor> dataChangeInterceptor;
+
 	@Pointcut("@annotation(com.stars.datachange.annotation.ChangeResult)")
 	public void pointcut() {}
 
-	@AfterReturning(value = "pointcut() && @annotation(changeResult)", returning = "result")
-	public void changeResult(Object result, ChangeResult changeResult) {
-		final Class<?> type = result.getClass();
+	@Around(value = "pointcut() && @annotation(changeResult)")
+	public Object changeResult(ProceedingJoinPoint point, ChangeResult changeResult) throws Throwable {
+		final Object result = point.proceed();
+		if (Objects.isNull(result) || isMapper(point.getTarget())) {
+			return result;
+		}
 		final boolean rollback = changeResult.rollback();
+		// 异步结果：完成时转换
+		if (result instanceof CompletableFuture) {
+			return ((CompletableFuture<?>) result).thenApply(o -> {
+				if (Objects.nonNull(o)) {
+					convert(o, rollback);
+				}
+				return o;
+			});
+		}
+		// 响应式结果：元素流经时转换
+		if (REACTOR && ReactiveChangeResult.isReactive(result)) {
+			return ReactiveChangeResult.convert(result, elementType(point), rollback);
+		}
+		convert(result, rollback);
+		return result;
+	}
+
+	/**
+	 * 是否为MyBatis的Mapper代理（启用了{@link DataChangeInterceptor}时，查询结果已由插件转换）
+	 */
+	private boolean isMapper(Object target) {
+		return Objects.nonNull(target) && Proxy.isProxyClass(target.getClass()) && Proxy.getInvocationHandler(target) instanceof MapperProxy
+				&& Objects.nonNull(dataChangeInterceptor.getIfAvailable());
+	}
+
+	/**
+	 * 转换返回值
+	 * @param result 返回值
+	 * @param rollback 是否反转（V转K）
+	 * @author Hao.
+	 * @since 2026/10/17 21:30
+	 */
+	static void convert(Object result, boolean rollback) {
+		final Class<?> type = result.getClass();
 		// 数组
 		if (type.isArray()) {
 			DataChangeUtils.dataChangeToBean((Object[]) result, rollback);
@@ -47,4 +108,70 @@ public class DataChangeAspect {
 		throw new ChangeResultException(String.format("the data change is not possible, mark the @ChangeModel on the %s data model or use the @ChangeModel labeled data model.", type));
 	}
 
+	/**
+	 * 使用转换器转换返回值中的元素（数组、单列集合、数据模型）
+	 * @param result 返回值中的元素
+	 * @param converter 转换器（{@link DataChangeUtils#beanConverter}）
+	 * @return result
+	 * @author Hao.
+	 * @since 2026/10/17 21:30
+	 */
+	static <T> T convert(T result, Consumer<Object> converter) {
+		final Class<?> type = result.getClass();
+		// 数组
+		if (type.isArray()) {
+			for (Object o : (Object[]) result) {
+				if (Objects.nonNull(o)) {
+					converter.accept(o);
+				}
+			}
+			return result;
+		}
+		// 单列集合
+		if (Collection.class.isAssignableFrom(type)) {
+			for (Object o : (Collection<?>) result) {
+				if (Objects.nonNull(o)) {
+					converter.accept(o);
+				}
+			}
+			return result;
+		}
+		// 对象
+		if (type.isAnnotationPresent(ChangeModel.class)) {
+			converter.accept(result);
+			return result;
+		}
+		// 其他数据类型
+		throw new ChangeResultException(String.format("the data change is not possible, mark the @ChangeModel on the %s data model or use the @ChangeModel labeled data model.", type));
+	}
+
+	/**
+	 * 返回值中元素的数据模型（如：{@code Flux<Order>}、{@code Mono<List<Order>>}中的Order）
+	 * @return 无法确定或不是数据模型时为null
+	 */
+	private static Class<?> elementType(ProceedingJoinPoint point) {
+		if (!(point.getSignature() instanceof MethodSignature)) {
+			return null;
+		}
+		final Type type = ((MethodSignature) point.getSignature()).getMethod().getGenericReturnType();
+		if (!(type instanceof ParameterizedType)) {
+			return null;
+		}
+		Type element = ((ParameterizedType) type).getActualTypeArguments()[0];
+		while (true) {
+			if (element instanceof WildcardType) {
+				element = ((WildcardType) element).getUpperBounds()[0];
+			} else if (element instanceof GenericArrayType) {
+				element = ((GenericArrayType) element).getGenericComponentType();
+			} else if (element instanceof Class && ((Class<?>) element).isArray()) {
+				element = ((Class<?>) element).getComponentType();
+			} else if (element instanceof ParameterizedType && Collection.class.isAssignableFrom((Class<?>) ((ParameterizedType) element).getRawType())) {
+				element = ((ParameterizedType) element).getActualTypeArguments()[0];
+			} else {
+				break;
+			}
+		}
+		return element instanceof Class && ((Class<?>) element).isAnnotationPresent(ChangeModel.class) ? (Class<?>) element : null;
+	}
+
 }
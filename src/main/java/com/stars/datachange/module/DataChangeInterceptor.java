@@ -0,0 +1,229 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.annotation.ChangeModel;
+import com.stars.datachange.annotation.ChangeResult;
+import com.stars.datachange.utils.DataChangeUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * 基于MyBatis插件的数据转换模块<p>
+ *     Mapper方法（或Mapper接口）标注了{@link ChangeResult}时，由本插件转换查询结果，{@link DataChangeAspect}跳过Mapper代理上的方法：<p>
+ *     1. 带{@link ResultHandler}的查询：每条数据交给ResultHandler之前转换（逐条）<p>
+ *     2. {@link Cursor}查询：每条数据在迭代时转换（逐条）<p>
+ *     3. 普通查询：不是逐条转换，{@link ResultSetHandler}从数据库组装完结果集后，对结果集转换一次（批量加载数据字典）；
+ *        转换发生在一级、二级缓存写入之前，命中缓存的结果不会再次转换；
+ *        查询的MappedStatement在Executor.query时记录在当前线程上，交给ResultSetHandler使用
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 19:30
+ */
+@Component
+@ConditionalOnProperty(prefix = "stars.config", name = "db", havingValue = "true", matchIfMissing = true)
+@Intercepts({
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = ResultSetHandler.class, method = "handleResultSets", args = {Statement.class})
+})
+public class DataChangeInterceptor implements Interceptor {
+
+    /** MappedStatement的ID → 数据转换结果标识（每个查询只解析一次） */
+    private final ConcurrentMap<String, Optional<ChangeResult>> changeResults = new ConcurrentHashMap<>();
+
+    /** 当前线程正在执行的普通查询（Executor.query记录，ResultSetHandler取出） */
+    private static final ThreadLocal<MappedStatement> QUERYING = new ThreadLocal<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object intercept(Invocation invocation) throws Throwable {
+        // 普通查询：从数据库组装完结果集后转换
+        if (invocation.getTarget() instanceof ResultSetHandler) {
+            return handleResultSets(invocation);
+        }
+        final Object[] args = invocation.getArgs();
+        final MappedStatement ms = (MappedStatement) args[0];
+        final ChangeResult changeResult = changeResult(ms);
+        if (Objects.isNull(changeResult)) {
+            return query(invocation, ms);
+        }
+        final Consumer<Object> converter = DataChangeUtils.beanConverter(changeResult.rollback());
+
+        // Cursor查询
+        if (invocation.getMethod().getName().equals("queryCursor")) {
+            return new ChangeCursor<>((Cursor<Object>) invocation.proceed(), converter);
+        }
+
+        // 带ResultHandler的查询
+        final ResultHandler<Object> resultHandler = (ResultHandler<Object>) args[3];
+        if (Objects.nonNull(resultHandler)) {
+            args[3] = (ResultHandler<Object>) context -> {
+                convert(context.getResultObject(), converter);
+                resultHandler.handleResult(context);
+            };
+        }
+        // 普通查询由handleResultSets转换（命中缓存时不经过ResultSetHandler）
+        return query(invocation, ms);
+    }
+
+    /**
+     * 执行查询，执行期间在当前线程上记录查询的MappedStatement（Cursor查询不经过handleResultSets，无需记录）<p>
+     *     查询中调用其他Mapper时（如TypeHandler中）会覆盖记录，结束后恢复
+     */
+    private static Object query(Invocation invocation, MappedStatement ms) throws Throwable {
+        if (invocation.getMethod().getName().equals("queryCursor")) {
+            return invocation.proceed();
+        }
+        final MappedStatement previous = QUERYING.get();
+        QUERYING.set(ms);
+        try {
+            return invocation.proceed();
+        } finally {
+            if (Objects.isNull(previous)) {
+                QUERYING.remove();
+            } else {
+                QUERYING.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 普通查询：转换从数据库组装完的结果集（带ResultHandler的查询，数据已交给ResultHandler，结果集为空）<p>
+     *     取出记录的MappedStatement：组装结果集时的嵌套查询（association、collection的select）不经过Executor插件，
+     *     其结果随外层结果一起处理，不单独转换
+     */
+    @SuppressWarnings("unchecked")
+    private Object handleResultSets(Invocation invocation) throws Throwable {
+        final MappedStatement ms = QUERYING.get();
+        QUERYING.remove();
+        final ChangeResult changeResult = Objects.isNull(ms) ? null : changeResult(ms);
+        final Object result = invocation.proceed();
+        if (Objects.isNull(changeResult) || !(result instanceof List)) {
+            return result;
+        }
+        final List<Object> list = (List<Object>) result;
+        for (Object o : list) {
+            if (!isModel(o)) {
+                final Consumer<Object> converter = DataChangeUtils.beanConverter(changeResult.rollback());
+                list.forEach(o_ -> convert(o_, converter));
+                return list;
+            }
+        }
+        DataChangeUtils.dataChangeToBean(list, changeResult.rollback());
+        return list;
+    }
+
+    /**
+     * 获取查询的数据转换结果标识：Mapper方法上的优先，其次是Mapper接口上的
+     * @param ms MappedStatement
+     * @return 没有标识时返回null
+     */
+    private ChangeResult changeResult(MappedStatement ms) {
+        return changeResults.computeIfAbsent(ms.getId(), id -> {
+            final int index = id.lastIndexOf('.');
+            if (index < 0) {
+                return Optional.empty();
+            }
+            final Class<?> mapper;
+            try {
+                mapper = Resources.classForName(id.substring(0, index));
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            }
+            final String name = id.substring(index + 1);
+            for (Method method : mapper.getMethods()) {
+                if (method.getName().equals(name) && method.isAnnotationPresent(ChangeResult.class)) {
+                    return Optional.of(method.getAnnotation(ChangeResult.class));
+                }
+            }
+            return Optional.ofNullable(mapper.getAnnotation(ChangeResult.class));
+        }).orElse(null);
+    }
+
+    private static boolean isModel(Object o) {
+        return Objects.nonNull(o) && o.getClass().isAnnotationPresent(ChangeModel.class);
+    }
+
+    private static void convert(Object o, Consumer<Object> converter) {
+        if (isModel(o)) {
+            converter.accept(o);
+        }
+    }
+
+    /**
+     * 迭代时转换数据的Cursor
+     */
+    private static final class ChangeCursor<T> implements Cursor<T> {
+
+        private final Cursor<T> cursor;
+
+        private final Consumer<Object> converter;
+
+        private ChangeCursor(Cursor<T> cursor, Consumer<Object> converter) {
+            this.cursor = cursor;
+            this.converter = converter;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return cursor.isOpen();
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return cursor.isConsumed();
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return cursor.getCurrentIndex();
+        }
+
+        @Override
+        public void close() throws IOException {
+            cursor.close();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final Iterator<T> iterator = cursor.iterator();
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    final T o = iterator.next();
+                    convert(o, converter);
+                    return o;
+                }
+            };
+        }
+    }
+}
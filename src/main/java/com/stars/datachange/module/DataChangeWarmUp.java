@@ -0,0 +1,283 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.annotation.ChangeModel;
+import com.stars.datachange.autoconfigure.StarsProperties;
+import com.stars.datachange.exception.ChangeException;
+import com.stars.datachange.model.code.BaseCodeIndex;
+import com.stars.datachange.model.response.DataDictionaryResult;
+import com.stars.datachange.utils.DataChangeUtils;
+import com.stars.datachange.utils.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.NumberUtils;
+
+import javax.annotation.Resource;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 启动预热<p>
+ *     {@code stars.config.warm-up}为true时开启，应用启动后：<p>
+ *     1. 扫描{@code stars.config.warm-up-packages}（为空时为Spring Boot应用所在的包）中的@ChangeModel数据模型，创建处理模型（含编译转换器）<p>
+ *     2. 一次查询加载所有数据模型用到的数据字典（开启缓存时放入缓存），记录不存在的数据字典<p>
+ *     3. 每个数据模型执行{@code stars.config.warm-up-iterations}次转换，使转换代码被JIT编译（数据字典来源的数据模型只在开启缓存时执行，避免反复查询数据库）：
+ *        转换的样本中，需要转换的属性取数据字典（或字典枚举）中该属性的第一个代码，日期属性取当前时间，使字典查找、分割、位运算、日期格式化都被执行<p>
+ *     数据字典个数超过缓存的最大容量（{@code stars.cache.maximum-size}）时，预热加载的数据字典会被淘汰，记录警告<p>
+ *     {@code stars.config.warm-up-wait}为true时在启动线程中预热，预热完成后应用才就绪；否则在后台线程中预热
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 00:30
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "stars.config", name = "warm-up", havingValue = "true")
+public class DataChangeWarmUp implements ApplicationRunner {
+
+    @Resource
+    private BeanFactory beanFactory;
+
+    @Autowired
+    private ObjectProvider<DataDictionary> dataDictionary;
+
+    @Value("${stars.cache.open:false}")
+    private boolean cacheOpen;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (StarsProperties.config.isWarmUpWait()) {
+            warmUp();
+            return;
+        }
+        final Thread thread = new Thread(this::warmUp, "stars-datachange-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 预热
+     * @author Hao.
+     * @since 2026/10/18 00:30
+     */
+    public void warmUp() {
+        final long start = System.nanoTime();
+        final List<Class<?>> models = scan(packages());
+
+        // 处理模型
+        List<Class<?>> types = new ArrayList<>(models.size());
+        Set<String> names = new LinkedHashSet<>();
+        for (Class<?> type : models) {
+            try {
+                names.addAll(Process.of(type).getDictionaryNames());
+                types.add(type);
+            } catch (ChangeException e) {
+                log.warn("Warm-up skipped the data change model [{}]: {}", type.getName(), e.getMessage());
+            }
+        }
+        final long processed = System.nanoTime();
+
+        // 数据字典
+        List<String> missing = new ArrayList<>();
+        Map<String, Set<DataDictionaryResult>> dictionaries = Collections.emptyMap();
+        final DataDictionary dataDictionary = this.dataDictionary.getIfAvailable();
+        if (!names.isEmpty() && Objects.nonNull(dataDictionary)) {
+            final long maximumSize = StarsProperties.cache.getMaximumSize();
+            if (cacheOpen && maximumSize > 0 && names.size() > maximumSize) {
+                log.warn("Stars-datachange warm-up: {} dictionaries exceed the maximum size {} of the cache [stars], warmed dictionaries will be evicted (see stars.cache.maximum-size)",
+                        names.size(), maximumSize);
+            }
+            try {
+                dictionaries = DataDictionaryLoader.loadAll(dataDictionary, names);
+                for (String name : names) {
+                    if (CollectionUtils.isEmpty(dictionaries.get(name))) {
+                        missing.add(name);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Warm-up failed to load dictionaries {}: {}", names, e.toString());
+            }
+        }
+        final long loaded = System.nanoTime();
+
+        // 转换
+        final int iterations = StarsProperties.config.getWarmUpIterations();
+        int converted = 0;
+        for (Class<?> type : types) {
+            if (iterations > 0 && (cacheOpen || Process.of(type).getDictionaryNames().isEmpty()) && convert(type, dictionaries, iterations)) {
+                converted++;
+            }
+        }
+        final long end = System.nanoTime();
+
+        log.info("Stars-datachange warm-up finished in {} ms: {} models (processes {} ms), {} dictionaries (load {} ms), {} models converted {} times (convert {} ms).",
+                (end - start) / 1000000, types.size(), (processed - start) / 1000000, names.size(), (loaded - processed) / 1000000,
+                converted, iterations, (end - loaded) / 1000000);
+        if (!missing.isEmpty()) {
+            log.warn("Stars-datachange warm-up: dictionaries not found {}", missing);
+        }
+    }
+
+    /**
+     * 扫描的包
+     */
+    private List<String> packages() {
+        final String[] packages = StarsProperties.config.getWarmUpPackages();
+        if (Objects.nonNull(packages) && packages.length > 0) {
+            return Arrays.asList(packages);
+        }
+        return AutoConfigurationPackages.has(beanFactory) ? AutoConfigurationPackages.get(beanFactory) : Collections.emptyList();
+    }
+
+    /**
+     * 扫描@ChangeModel数据模型（具体类，静态内部类也在其中）
+     */
+    private static List<Class<?>> scan(List<String> packages) {
+        final ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(ChangeModel.class));
+        Set<String> classNames = new LinkedHashSet<>();
+        for (String pkg : packages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(pkg)) {
+                classNames.add(candidate.getBeanClassName());
+            }
+        }
+        List<Class<?>> models = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                models.add(ClassUtils.forName(className, ClassUtils.getDefaultClassLoader()));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("Warm-up failed to load the data change model [{}]: {}", className, e.toString());
+            }
+        }
+        return models;
+    }
+
+    /**
+     * 转换数据模型的样本（需要无参构造器），转换到Map、转换到原对象各执行iterations次
+     * @param dictionaries 预热加载的数据字典
+     * @return 是否执行了转换
+     */
+    private static boolean convert(Class<?> type, Map<String, Set<DataDictionaryResult>> dictionaries, int iterations) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        final Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+        final Process process = Process.of(type);
+        try {
+            for (int i = 0; i < iterations; i++) {
+                // 转换到原对象会改写属性，每次转换新的样本
+                DataChangeUtils.dataChange(sample(constructor.newInstance(), process, dictionaries));
+                DataChangeUtils.dataChangeToBean(sample(constructor.newInstance(), process, dictionaries));
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Warm-up failed to convert the data change model [{}]: {}", type.getName(), e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * 填充样本：需要转换的属性取第一个代码（分割属性取前两个代码），日期属性取当前时间；取不到代码或类型不支持的属性保持为空
+     * @return 样本
+     */
+    private static Object sample(Object data, Process process, Map<String, Set<DataDictionaryResult>> dictionaries) {
+        final ChangeModel.Source source = process.getSource();
+        if (ChangeModel.Source.NONE.equals(source)) {
+            return data;
+        }
+        for (FieldAccessor accessor : process.getAccessors().values()) {
+            final String name = accessor.getField().getName();
+            final Class<?> fieldType = accessor.getField().getType();
+            if (Objects.nonNull(accessor.get(data))) {
+                continue;
+            }
+            // 日期格式化不要求属性参与转换
+            final Object date = date(fieldType);
+            if (Objects.nonNull(date)) {
+                accessor.set(data, date);
+                continue;
+            }
+            if (process.isIgnore(name) || process.isReentrant(name) || !process.getTargets().containsKey(accessor.getField())) {
+                continue;
+            }
+            final String alias = StringUtils.isEmpty(process.getAlias().get(name)) ? name : process.getAlias().get(name);
+            final Set<DataDictionaryResult> dictionary = dictionaries.get(process.getChangeModel().modelName());
+            final Map<String, String> codes = ChangeModel.Source.ENUM.equals(source)
+                    ? BaseCodeIndex.of(process.getModelCode()).values(alias)
+                    : Objects.isNull(dictionary) ? Collections.emptyMap() : DataDictionaryIndex.of(dictionary).entry(alias).getValues();
+            final Iterator<String> iterator = codes.keySet().iterator();
+            if (!iterator.hasNext()) {
+                continue;
+            }
+            String code = iterator.next();
+            final String delimiter = process.getSplitDelimiter().get(name);
+            if (process.isSplit(name) && !StringUtils.isEmpty(delimiter) && iterator.hasNext()) {
+                code = code + delimiter + iterator.next();
+            }
+            final Object value = value(fieldType, code);
+            if (Objects.nonNull(value)) {
+                accessor.set(data, value);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * 代码转为属性类型（字符串、数字），其他类型为null
+     */
+    @SuppressWarnings("unchecked")
+    private static Object value(Class<?> type, String code) {
+        final Class<?> wrapper = ClassUtils.resolvePrimitiveIfNecessary(type);
+        if (wrapper.isAssignableFrom(String.class)) {
+            return code;
+        }
+        if (Number.class.isAssignableFrom(wrapper)) {
+            try {
+                return NumberUtils.parseNumber(code, (Class<? extends Number>) wrapper);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 日期属性的当前时间（不是日期属性时为null）
+     */
+    private static Object date(Class<?> type) {
+        if (Date.class.equals(type)) {
+            return new Date();
+        }
+        if (LocalDateTime.class.equals(type)) {
+            return LocalDateTime.now();
+        }
+        if (LocalDate.class.equals(type)) {
+            return LocalDate.now();
+        }
+        if (LocalTime.class.equals(type)) {
+            return LocalTime.now();
+        }
+        return null;
+    }
+}
@@ -2,6 +2,9 @@ package com.stars.datachange.module;
 
 import com.stars.datachange.model.response.DataDictionaryResult;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -22,4 +25,51 @@ public interface DataDictionary {
      * @return 数据字典结果集
      */
     Set<DataDictionaryResult> dataDictionary(String key);
+
+    /**
+     * 一次获取多个数据字典<p>
+     *     默认逐个调用{@link DataDictionary#dataDictionary(String)}，可重写为一次查询，
+     *     功能实现 可参考：{@link DefaultDataDictionary#dataDictionaries(Collection)}
+     * @param keys 数据模型名（对应@ChangeModel中的 modelName）
+     * @return 数据模型名 → 数据字典结果集
+     * @author Hao.
+     * @since 2026/10/17 20:00
+     */
+    default Map<String, Set<DataDictionaryResult>> dataDictionaries(Collection<String> keys) {
+        Map<String, Set<DataDictionaryResult>> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            result.put(key, dataDictionary(key));
+        }
+        return result;
+    }
+
+    /**
+     * 重新加载数据字典（不读取缓存），用于缓存刷新<p>
+     *     默认调用{@link DataDictionary#dataDictionary(String)}；该方法自身带有缓存时（如{@code @Cacheable}），需重写为直接查询，
+     *     功能实现 可参考：{@link DefaultDataDictionary#reload(String)}
+     * @param key 数据模型名（对应@ChangeModel中的 modelName）
+     * @return 数据字典结果集
+     * @author Hao.
+     * @since 2026/10/17 23:30
+     */
+    default Set<DataDictionaryResult> reload(String key) {
+        return dataDictionary(key);
+    }
+
+    /**
+     * 重新加载多个数据字典（不读取缓存），用于版本轮询<p>
+     *     默认逐个调用{@link DataDictionary#reload(String)}，可重写为一次查询，
+     *     功能实现 可参考：{@link DefaultDataDictionary#reload(Collection)}
+     * @param keys 数据模型名（对应@ChangeModel中的 modelName）
+     * @return 数据模型名 → 数据字典结果集
+     * @author Hao.
+     * @since 2026/10/18 00:00
+     */
+    default Map<String, Set<DataDictionaryResult>> reload(Collection<String> keys) {
+        Map<String, Set<DataDictionaryResult>> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            result.put(key, reload(key));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,161 @@
+package com.stars.datachange.module;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.stars.datachange.model.response.DataDictionaryResult;
+import lombok.SneakyThrows;
+import org.springframework.util.CollectionUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 数据字典索引<p>
+ *     字段名 → 字典项，每个字典项包含 代码 → 值、值 → 代码 两张对照表<p>
+ *     每份数据字典结果集（按引用）只编译一次，结果集被回收或刷新后，索引随之失效<p>
+ *     索引不持有结果集：弱引用的key只被调用方持有，不开启缓存时每次加载的结果集用完即可回收
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 11:00
+ */
+public final class DataDictionaryIndex {
+
+    /** 数据字典结果集 → 索引（弱引用，按引用比较） */
+    private static final Cache<Set<DataDictionaryResult>, DataDictionaryIndex> INDEX = CacheBuilder.newBuilder().weakKeys().build();
+
+    /** 字段名 → 字典项 */
+    private final Map<String, Entry> entries;
+
+    private DataDictionaryIndex(Set<DataDictionaryResult> result) {
+        Map<String, Entry> entries = CollectionUtils.newHashMap(result.size());
+        for (DataDictionaryResult o : result) {
+            // 同名字段以先出现的为准
+            if (Objects.nonNull(o) && !entries.containsKey(o.getName())) {
+                entries.put(o.getName(), new Entry(o));
+            }
+        }
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * 获取数据字典索引
+     * @param result 数据字典结果集
+     * @return DataDictionaryIndex
+     * @author Hao.
+     * @since 2026/10/17 11:00
+     */
+    @SneakyThrows
+    public static DataDictionaryIndex of(Set<DataDictionaryResult> result) {
+        return INDEX.get(result, () -> new DataDictionaryIndex(result));
+    }
+
+    /**
+     * 获取字典项
+     * @param name 字段名
+     * @return 字典项（字段名不存在时为空的字典项）
+     */
+    public Entry entry(String name) {
+        return entries.getOrDefault(name, Entry.EMPTY);
+    }
+
+    /**
+     * 字典项
+     * @author Hao.
+     * @since 2026/10/17 11:00
+     */
+    public static final class Entry {
+
+        private static final Entry EMPTY = new Entry(Collections.emptyMap(), Collections.emptyMap());
+
+        /** 代码 → 值 */
+        private final Map<String, String> values;
+
+        /** 值 → 代码 */
+        private final Map<String, String> codes;
+
+        /** 位运算转换表（首次位运算时创建） */
+        private volatile BitMask bitMask;
+
+        private Entry(Map<String, String> values, Map<String, String> codes) {
+            this.values = values;
+            this.codes = codes;
+        }
+
+        private Entry(DataDictionaryResult result) {
+            final int size = CollectionUtils.isEmpty(result.getMaps()) ? 0 : result.getMaps().size();
+            Map<String, String> values = CollectionUtils.newHashMap(size);
+            Map<String, String> codes = CollectionUtils.newHashMap(size);
+            if (size > 0) {
+                for (DataDictionaryResult.Map o : result.getMaps()) {
+                    if (Objects.nonNull(o.getCode())) {
+                        values.putIfAbsent(o.getCode(), o.getValue());
+                    }
+                    if (Objects.nonNull(o.getValue())) {
+                        codes.putIfAbsent(o.getValue(), o.getCode());
+                    }
+                }
+            }
+            this.values = Collections.unmodifiableMap(values);
+            this.codes = Collections.unmodifiableMap(codes);
+        }
+
+        /**
+         * 代码 → 值
+         * @param code 代码
+         * @return 值（未匹配时返回代码本身）
+         */
+        public String value(String code) {
+            return values.getOrDefault(code, code);
+        }
+
+        /**
+         * 值 → 代码
+         * @param value 值
+         * @return 代码（未匹配时返回值本身）
+         */
+        public String code(String value) {
+            return codes.getOrDefault(value, value);
+        }
+
+        /**
+         * 转换
+         * @param o 属性原值
+         * @param rollback 是否反转（V转K）
+         * @return 转义后的值
+         */
+        public String change(String o, boolean rollback) {
+            return rollback ? code(o) : value(o);
+        }
+
+        /**
+         * 位运算转换表
+         * @return BitMask
+         */
+        public BitMask bitMask() {
+            BitMask bitMask = this.bitMask;
+            if (Objects.isNull(bitMask)) {
+                this.bitMask = bitMask = new BitMask(values);
+            }
+            return bitMask;
+        }
+
+        /**
+         * 转换用的对照表
+         * @param rollback 是否反转（V转K）
+         * @return 代码 → 值；反转时为 值 → 代码
+         */
+        public Map<String, String> table(boolean rollback) {
+            return rollback ? codes : values;
+        }
+
+        public Map<String, String> getValues() {
+            return values;
+        }
+
+        public Map<String, String> getCodes() {
+            return codes;
+        }
+    }
+}
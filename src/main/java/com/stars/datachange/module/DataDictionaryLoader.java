@@ -0,0 +1,105 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.model.response.DataDictionaryResult;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 数据字典加载<p>
+ *     同一个数据模型名同时只加载一次：并发获取同一个数据字典的线程等待正在进行的加载，共用加载结果（成功或异常）
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 21:00
+ */
+public final class DataDictionaryLoader {
+
+    /** 数据模型名 → 正在进行的加载 */
+    private static final ConcurrentMap<String, CompletableFuture<Set<DataDictionaryResult>>> LOADING = new ConcurrentHashMap<>();
+
+    private DataDictionaryLoader() {
+    }
+
+    /**
+     * 加载数据字典
+     * @param dataDictionary 数据字典模块
+     * @param key 数据模型名
+     * @return 数据字典结果集
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static Set<DataDictionaryResult> load(DataDictionary dataDictionary, String key) {
+        final CompletableFuture<Set<DataDictionaryResult>> future = new CompletableFuture<>();
+        final CompletableFuture<Set<DataDictionaryResult>> loading = LOADING.putIfAbsent(key, future);
+        if (Objects.nonNull(loading)) {
+            return join(loading);
+        }
+        try {
+            final Set<DataDictionaryResult> result = dataDictionary.dataDictionary(key);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            LOADING.remove(key, future);
+        }
+    }
+
+    /**
+     * 一次加载多个数据字典（正在由其他线程加载的数据字典不重复加载，等待其结果）
+     * @param dataDictionary 数据字典模块
+     * @param keys 数据模型名
+     * @return 数据模型名 → 数据字典结果集
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static Map<String, Set<DataDictionaryResult>> loadAll(DataDictionary dataDictionary, Collection<String> keys) {
+        final Map<String, CompletableFuture<Set<DataDictionaryResult>>> owned = new LinkedHashMap<>();
+        final Map<String, CompletableFuture<Set<DataDictionaryResult>>> waiting = new LinkedHashMap<>();
+        for (String key : keys) {
+            final CompletableFuture<Set<DataDictionaryResult>> future = new CompletableFuture<>();
+            final CompletableFuture<Set<DataDictionaryResult>> loading = LOADING.putIfAbsent(key, future);
+            if (Objects.isNull(loading)) {
+                owned.put(key, future);
+            } else {
+                waiting.put(key, loading);
+            }
+        }
+
+        final Map<String, Set<DataDictionaryResult>> result = new LinkedHashMap<>();
+        if (!owned.isEmpty()) {
+            try {
+                final Map<String, Set<DataDictionaryResult>> loaded = dataDictionary.dataDictionaries(owned.keySet());
+                if (Objects.nonNull(loaded)) {
+                    result.putAll(loaded);
+                }
+                owned.forEach((key, future) -> future.complete(result.get(key)));
+            } catch (RuntimeException | Error e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(LOADING::remove);
+            }
+        }
+        waiting.forEach((key, loading) -> result.put(key, join(loading)));
+        return result;
+    }
+
+    private static Set<DataDictionaryResult> join(CompletableFuture<Set<DataDictionaryResult>> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
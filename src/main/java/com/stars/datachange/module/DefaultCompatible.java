@@ -1,13 +1,18 @@
 package com.stars.datachange.module;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import org.apache.commons.lang3.time.DateFormatUtils;
+import org.apache.commons.lang3.time.FastDateFormat;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
 import org.springframework.stereotype.Component;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 默认兼容模块
@@ -21,31 +26,51 @@ public class DefaultCompatible implements Compatible {
 
     private static final Compatible COMPATIBLE = new DefaultCompatible();
 
+    /** 不需要兼容处理 */
+    private static final Handler NONE = result -> {};
+
+    /**
+     * {@link JsonFormat}属性缓存：每个数据模型（含父类）只扫描一次
+     */
+    private static final ClassValue<Handler> JSON_FORMAT = new ClassValue<Handler>() {
+        @Override
+        protected Handler computeValue(Class<?> type) {
+            List<Action> actions = new ArrayList<>();
+            for (Class<?> c = type; !c.equals(Object.class); c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(JsonFormat.class)) {
+                        actions.add(new Action(field.getName(), field.getAnnotation(JsonFormat.class)));
+                    }
+                }
+            }
+            if (actions.isEmpty()) {
+                return NONE;
+            }
+            return new JsonFormatHandler(actions.toArray(new Action[0]));
+        }
+    };
+
     public static Compatible get(){
         return COMPATIBLE;
     }
 
     @Override
     public void run(Class<?> dataClass, Map<String, Object> result, Collection<Class<? extends Annotation>> annotations){
-        Field[] fields = dataClass.getDeclaredFields();
-        for(Field field : fields){
-            if(!field.isAccessible()){
-                field.setAccessible(true);
-            }
+        compile(dataClass, annotations).apply(result);
+    }
 
-            if(annotations.contains(JsonFormat.class)){
-                jsonFormat(field, result);
-            }
+    @Override
+    public Handler compile(Class<?> dataClass, Collection<Class<? extends Annotation>> annotations) {
+        if(annotations.contains(JsonFormat.class)){
+            return JSON_FORMAT.get(dataClass);
+        }
 
-            // 这里加入其它注解的兼容（如：自定义的注解）
-            /*if(list.contains(...)){
-                // ...
-            }*/
+        // 这里加入其它注解的兼容（如：自定义的注解）
+        /*if(list.contains(...)){
+            // ...
+        }*/
 
-        }
-        if(!dataClass.getSuperclass().equals(Object.class)){
-            run(dataClass.getSuperclass(), result, annotations);
-        }
+        return NONE;
     }
 
     /**
@@ -60,12 +85,142 @@ public class DefaultCompatible implements Compatible {
             return;
         }
 
-        JsonFormat anon = field.getAnnotation(JsonFormat.class);
+        new Action(field.getName(), field.getAnnotation(JsonFormat.class)).apply(result, Locale.getDefault());
+    }
 
-        String name = field.getName();
-        if(Objects.isNull(result.get(name))){
-            return;
+    /**
+     * {@link JsonFormat}的兼容处理器：日期按转换上下文的区域格式化（注解指定了locale时以注解为准）
+     */
+    private static final class JsonFormatHandler implements Handler {
+
+        private final Action[] actions;
+
+        private JsonFormatHandler(Action[] actions) {
+            this.actions = actions;
+        }
+
+        @Override
+        public void apply(Map<String, Object> result) {
+            apply(result, ConversionContext.DEFAULT);
+        }
+
+        @Override
+        public void apply(Map<String, Object> result, ConversionContext context) {
+            final Locale locale = context.getLocale();
+            for (Action action : actions) {
+                action.apply(result, locale);
+            }
+        }
+    }
+
+    /**
+     * 兼容动作：按属性名格式化数据转换结果集中的日期
+     */
+    private static final class Action {
+
+        private final String name;
+
+        private final String pattern;
+
+        private final String timezone;
+
+        /** 注解指定的区域（未指定时为null，使用转换上下文的区域） */
+        private final Locale locale;
+
+        /** 最近使用的格式化器 */
+        private volatile DateFormatter formatter;
+
+        private Action(String name, JsonFormat anon) {
+            this.name = name;
+            this.pattern = anon.pattern();
+            this.timezone = anon.timezone();
+            this.locale = JsonFormat.DEFAULT_LOCALE.equals(anon.locale()) ? null : Locale.forLanguageTag(anon.locale());
+        }
+
+        private void apply(Map<String, Object> result, Locale locale) {
+            final Object value = result.get(name);
+            if (Objects.isNull(value)) {
+                return;
+            }
+            result.put(name, formatter(Objects.isNull(this.locale) ? locale : this.locale).format(value));
+        }
+
+        private DateFormatter formatter(Locale locale) {
+            DateFormatter formatter = this.formatter;
+            if (Objects.isNull(formatter) || !formatter.locale.equals(locale)) {
+                this.formatter = formatter = DateFormatter.of(pattern, timezone, locale);
+            }
+            return formatter;
+        }
+    }
+
+    /**
+     * 日期格式化（按 格式 + 时区 + 区域 缓存，线程安全）<p>
+     *     支持{@link Date}及{@code java.time}的日期类型（LocalDateTime、LocalDate、Instant等）<p>
+     *     格式化器在首次格式化对应类型时创建：{@link Date}的格式与SimpleDateFormat一致；
+     *     {@code java.time}的格式不被DateTimeFormatter支持、或与值的类型不匹配（如LocalDate使用时间格式）时，原样返回值
+     * @author Hao.
+     * @since 2026/10/17 17:00
+     */
+    private static final class DateFormatter {
+
+        private static final ConcurrentMap<String, DateFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+        private final String pattern;
+
+        private final TimeZone timeZone;
+
+        private final Locale locale;
+
+        private volatile FastDateFormat dateFormat;
+
+        private volatile DateTimeFormatter temporalFormat;
+
+        /** 格式不被DateTimeFormatter支持 */
+        private volatile boolean temporalUnsupported;
+
+        private DateFormatter(String pattern, TimeZone timeZone, Locale locale) {
+            this.pattern = pattern;
+            this.timeZone = timeZone;
+            this.locale = locale;
+        }
+
+        private static DateFormatter of(String pattern, String timezone, Locale locale) {
+            return FORMATTERS.computeIfAbsent(pattern + '\u0000' + timezone + '\u0000' + locale, k -> new DateFormatter(pattern, TimeZone.getTimeZone(timezone), locale));
+        }
+
+        private Object format(Object value) {
+            if (value instanceof Date) {
+                FastDateFormat dateFormat = this.dateFormat;
+                if (Objects.isNull(dateFormat)) {
+                    this.dateFormat = dateFormat = FastDateFormat.getInstance(pattern, timeZone, locale);
+                }
+                return dateFormat.format((Date) value);
+            }
+            if (value instanceof TemporalAccessor) {
+                final DateTimeFormatter temporalFormat = temporalFormat();
+                if (Objects.isNull(temporalFormat)) {
+                    return value;
+                }
+                try {
+                    return temporalFormat.format((TemporalAccessor) value);
+                } catch (DateTimeException e) {
+                    return value;
+                }
+            }
+            return value;
+        }
+
+        private DateTimeFormatter temporalFormat() {
+            DateTimeFormatter temporalFormat = this.temporalFormat;
+            if (Objects.isNull(temporalFormat) && !temporalUnsupported) {
+                try {
+                    this.temporalFormat = temporalFormat = DateTimeFormatter.ofPattern(pattern, locale).withZone(timeZone.toZoneId());
+                } catch (IllegalArgumentException e) {
+                    temporalUnsupported = true;
+                }
+            }
+            return temporalFormat;
         }
-        result.put(name, DateFormatUtils.format((Date) result.get(name), anon.pattern(), TimeZone.getTimeZone(anon.timezone())));
     }
 }
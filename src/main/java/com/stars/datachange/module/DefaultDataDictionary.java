@@ -2,22 +2,33 @@ package com.stars.datachange.module;
 
 import com.stars.datachange.autoconfigure.StarsProperties;
 import com.stars.datachange.mapper.StarsDictionaryMapper;
+import com.stars.datachange.model.response.DataDictionaryGroup;
 import com.stars.datachange.model.response.DataDictionaryResult;
+import com.stars.datachange.utils.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
 
 import javax.annotation.Resource;
-import java.util.Set;
+import java.util.*;
 
 /**
- * 默认的数据字典模块
+ * 默认的数据字典模块<p>
+ *     开启数据字典快照（{@code stars.dictionary.snapshot-path}）时，查询成功的数据字典记录到快照；查询失败时使用快照中的数据字典，
+ *     并在{@code stars.dictionary.snapshot-fallback-window}秒内直接使用快照，不再查询数据库
  * @author Hao.
  * @version 1.0
  * @since 2022/8/6 11:34
  */
+@Slf4j
 @Component
 @ConditionalOnProperty(prefix = "stars.config", name = "db", havingValue = "true", matchIfMissing = true)
 @ConditionalOnSingleCandidate(DataDictionary.class)
@@ -28,13 +39,211 @@ public class DefaultDataDictionary implements DataDictionary {
     @Resource
     private StarsDictionaryMapper starsDictionaryMapper;
 
+    /** 缓存管理器（缓存管理器依赖数据字典模块，使用时再获取） */
+    @Autowired
+    private ObjectProvider<CacheManager> cacheManager;
+
+    /** 数据字典快照（未开启时为空） */
+    @Autowired
+    private ObjectProvider<DictionarySnapshot> snapshot;
+
     @Value("${stars.cache.open:false}")
     public boolean cacheOpen;
 
+    /** 直接使用快照的截止时间（毫秒）：数据库加载失败时设置 */
+    private volatile long fallbackUntil;
+
     @Override
     @Cacheable(key = "#root.target.DICTIONARY_KEY + #key", value = "stars", condition = "#root.target.cacheOpen == true")
     public Set<DataDictionaryResult> dataDictionary(String key) {
-        return starsDictionaryMapper.findList(StarsProperties.dictionary, key);
+        return reload(key);
+    }
+
+    /**
+     * 重新加载数据字典（直接查询，不经过缓存），缓存刷新时使用
+     * @param key 数据模型名（对应@ChangeModel中的 modelName）
+     * @return 数据字典结果集
+     * @author Hao.
+     * @since 2026/10/17 23:30
+     */
+    @Override
+    public Set<DataDictionaryResult> reload(String key) {
+        final DictionarySnapshot snapshot = this.snapshot.getIfAvailable();
+        final Map<String, Set<DataDictionaryResult>> fallback = fallback(snapshot, Collections.singletonList(key));
+        Set<DataDictionaryResult> result;
+        if (Objects.nonNull(fallback)) {
+            result = fallback.get(key);
+        } else {
+            try {
+                result = starsDictionaryMapper.findList(StarsProperties.dictionary, key);
+                if (Objects.nonNull(snapshot)) {
+                    snapshot.save(key, result);
+                }
+            } catch (RuntimeException e) {
+                result = fallback(snapshot, Collections.singletonList(key), e).get(key);
+            }
+        }
+        // 加载时编译数据字典索引，缓存命中后直接复用
+        if (!CollectionUtils.isEmpty(result)) {
+            DataDictionaryIndex.of(result);
+        }
+        return result;
+    }
+
+    /**
+     * 一次查询多个数据字典<p>
+     *     开启缓存时，只查询未缓存的数据字典，查询结果按数据模型名逐个放入缓存（与{@link DefaultDataDictionary#dataDictionary(String)}共用）
+     * @param keys 数据模型名（对应@ChangeModel中的 modelName）
+     * @return 数据模型名 → 数据字典结果集
+     * @author Hao.
+     * @since 2026/10/17 20:00
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Set<DataDictionaryResult>> dataDictionaries(Collection<String> keys) {
+        final Cache cache = cache();
+        Map<String, Set<DataDictionaryResult>> result = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>(keys.size());
+        for (String key : new LinkedHashSet<>(keys)) {
+            final Cache.ValueWrapper cached = Objects.isNull(cache) ? null : cache.get(DICTIONARY_KEY + key);
+            if (Objects.nonNull(cached)) {
+                result.put(key, (Set<DataDictionaryResult>) cached.get());
+            } else if (StringUtils.isEmpty(key)) {
+                // 数据模型名为空时查询全部数据字典，不参与批量查询
+                result.put(key, load(cache, key, reload(key)));
+            } else {
+                names.add(key);
+            }
+        }
+        if (names.isEmpty()) {
+            return result;
+        }
+
+        final Map<String, Set<DataDictionaryResult>> groups = findByNames(names);
+        for (String name : names) {
+            result.put(name, load(cache, name, groups.getOrDefault(name, new HashSet<>())));
+        }
+        return result;
+    }
+
+    /**
+     * 重新加载多个数据字典（一次查询，不经过缓存），版本轮询时使用
+     * @param keys 数据模型名（对应@ChangeModel中的 modelName）
+     * @return 数据模型名 → 数据字典结果集
+     * @author Hao.
+     * @since 2026/10/18 00:00
+     */
+    @Override
+    public Map<String, Set<DataDictionaryResult>> reload(Collection<String> keys) {
+        Map<String, Set<DataDictionaryResult>> result = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>(keys.size());
+        for (String key : new LinkedHashSet<>(keys)) {
+            if (StringUtils.isEmpty(key)) {
+                result.put(key, reload(key));
+            } else {
+                names.add(key);
+            }
+        }
+        if (names.isEmpty()) {
+            return result;
+        }
+        final Map<String, Set<DataDictionaryResult>> groups = findByNames(names);
+        for (String name : names) {
+            result.put(name, load(null, name, groups.getOrDefault(name, new HashSet<>())));
+        }
+        return result;
+    }
+
+    /**
+     * 一次查询多个数据字典，按数据模型名分组（查询失败时使用快照）
+     */
+    private Map<String, Set<DataDictionaryResult>> findByNames(List<String> names) {
+        final DictionarySnapshot snapshot = this.snapshot.getIfAvailable();
+        final Map<String, Set<DataDictionaryResult>> fallback = fallback(snapshot, names);
+        if (Objects.nonNull(fallback)) {
+            return fallback;
+        }
+        final List<DataDictionaryGroup> list;
+        try {
+            list = starsDictionaryMapper.findByNames(StarsProperties.dictionary, names);
+        } catch (RuntimeException e) {
+            return fallback(snapshot, names, e);
+        }
+        Map<String, Set<DataDictionaryResult>> groups = CollectionUtils.newHashMap(names.size());
+        for (DataDictionaryGroup group : list) {
+            groups.put(group.getKey(), CollectionUtils.isEmpty(group.getResults()) ? new HashSet<>() : new LinkedHashSet<>(group.getResults()));
+        }
+        if (Objects.nonNull(snapshot)) {
+            for (String name : names) {
+                snapshot.save(name, groups.getOrDefault(name, new HashSet<>()));
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * 数据库加载失败后的一段时间内，直接使用快照中的数据字典
+     * @return 快照中的数据字典（不在该时间内、或快照中没有任一数据字典时为null，需查询数据库）
+     */
+    private Map<String, Set<DataDictionaryResult>> fallback(DictionarySnapshot snapshot, List<String> names) {
+        if (Objects.isNull(snapshot) || System.currentTimeMillis() >= fallbackUntil) {
+            return null;
+        }
+        Map<String, Set<DataDictionaryResult>> result = CollectionUtils.newHashMap(names.size());
+        for (String name : names) {
+            final Set<DataDictionaryResult> results = snapshot.get(name);
+            if (Objects.isNull(results)) {
+                return null;
+            }
+            result.put(name, results);
+        }
+        return result;
     }
 
+    /**
+     * 查询失败时使用快照中的数据字典（未开启快照、或快照中没有任一数据字典时抛出查询的异常）
+     */
+    private Map<String, Set<DataDictionaryResult>> fallback(DictionarySnapshot snapshot, List<String> names, RuntimeException e) {
+        if (Objects.isNull(snapshot)) {
+            throw e;
+        }
+        final long window = StarsProperties.dictionary.getSnapshotFallbackWindow();
+        if (window > 0) {
+            fallbackUntil = System.currentTimeMillis() + window * 1000;
+        }
+        Map<String, Set<DataDictionaryResult>> result = CollectionUtils.newHashMap(names.size());
+        long loadedAt = Long.MAX_VALUE;
+        for (String name : names) {
+            final Set<DataDictionaryResult> results = snapshot.get(name);
+            if (Objects.isNull(results)) {
+                throw e;
+            }
+            result.put(name, results);
+            loadedAt = Math.min(loadedAt, snapshot.loadedAt(name));
+        }
+        log.warn("Failed to load dictionaries {}, use the snapshot (loaded {} s ago, used directly for the next {} s). cause: {}",
+                names, Math.max(System.currentTimeMillis() - loadedAt, 0L) / 1000, Math.max(window, 0L), e.toString());
+        return result;
+    }
+
+    /**
+     * 编译数据字典索引，并放入缓存
+     */
+    private Set<DataDictionaryResult> load(Cache cache, String key, Set<DataDictionaryResult> result) {
+        if (!CollectionUtils.isEmpty(result)) {
+            DataDictionaryIndex.of(result);
+        }
+        if (Objects.nonNull(cache)) {
+            cache.put(DICTIONARY_KEY + key, result);
+        }
+        return result;
+    }
+
+    private Cache cache() {
+        if (!cacheOpen) {
+            return null;
+        }
+        final CacheManager cacheManager = this.cacheManager.getIfAvailable();
+        return Objects.isNull(cacheManager) ? null : cacheManager.getCache("stars");
+    }
 }
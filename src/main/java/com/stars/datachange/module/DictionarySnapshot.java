@@ -0,0 +1,349 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.autoconfigure.StarsProperties;
+import com.stars.datachange.model.response.DataDictionaryResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.annotation.Resource;
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 数据字典快照<p>
+ *     配置了{@code stars.dictionary.snapshot-path}时开启：每次从数据库加载数据字典成功后记录到快照，内容变化时在后台写入快照文件（先写临时文件再替换）<p>
+ *     启动时读取快照文件，开启缓存时把快照中的数据字典放入缓存（不覆盖已有的缓存），随后在后台从数据库重新加载一次<p>
+ *     加载数据字典失败时（如数据库不可用），{@link DefaultDataDictionary}使用快照中的数据字典，转换不会因此失败<p>
+ *     文件格式：魔数、格式版本、数据字典（数据模型名、加载时间、结果集）、CRC32校验和；魔数、版本或校验和不符时忽略快照文件<p>
+ *     classpath中有Micrometer时，快照的新旧（stars.dictionary.snapshot.age，秒）、数据字典个数（stars.dictionary.snapshot.size）注册为指标
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "stars.dictionary", name = "snapshot-path")
+public class DictionarySnapshot implements InitializingBean, SmartInitializingSingleton, DisposableBean {
+
+    /** 魔数：STDS */
+    private static final int MAGIC = 0x53544453;
+
+    /** 文件格式的版本（格式变化时递增，旧版本的快照文件被忽略） */
+    private static final int FORMAT_VERSION = 1;
+
+    /** 内容变化后延迟写入的时间（毫秒），合并短时间内的多次加载 */
+    private static final long FLUSH_DELAY = 1000L;
+
+    private static final boolean METRICS = ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry", DictionarySnapshot.class.getClassLoader());
+
+    @Resource
+    private BeanFactory beanFactory;
+
+    @Autowired
+    private ObjectProvider<DataDictionary> dataDictionary;
+
+    /** 缓存管理器（缓存管理器依赖数据字典模块，使用时再获取） */
+    @Autowired
+    private ObjectProvider<CacheManager> cacheManager;
+
+    @Value("${stars.cache.open:false}")
+    private boolean cacheOpen;
+
+    /** 数据模型名（为空时为""） → 快照 */
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /** 是否有未写入文件的变化 */
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /** 最近一次加载成功的时间（毫秒），没有快照时为0 */
+    private volatile long updatedAt;
+
+    /** 写入线程 */
+    private ScheduledExecutorService writer;
+
+    private Path path;
+
+    @Override
+    public void afterPropertiesSet() {
+        path = Paths.get(StarsProperties.dictionary.getSnapshotPath());
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "stars-dictionary-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            read();
+        } catch (Exception e) {
+            entries.clear();
+            log.warn("Ignored the dictionary snapshot [{}]: {}", path, e.toString());
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (METRICS) {
+            DictionarySnapshotMetrics.register(beanFactory, this);
+        }
+        if (!cacheOpen || entries.isEmpty()) {
+            return;
+        }
+        final CacheManager cacheManager = this.cacheManager.getIfAvailable();
+        final Cache cache = Objects.isNull(cacheManager) ? null : cacheManager.getCache("stars");
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            cache.putIfAbsent(DefaultDataDictionary.DICTIONARY_KEY + entry.getKey(), entry.getValue().results);
+        }
+        log.info("Warmed the dictionary cache with {} dictionaries from the snapshot [{}] (age {} s).", entries.size(), path, age() / 1000);
+        writer.execute(() -> revalidate(cache, new ArrayList<>(entries.keySet())));
+    }
+
+    @Override
+    public void destroy() {
+        writer.shutdownNow();
+        if (dirty.get()) {
+            flush();
+        }
+    }
+
+    /**
+     * 快照中的数据字典
+     * @param key 数据模型名（对应@ChangeModel中的 modelName）
+     * @return 数据字典结果集（没有快照时为null）
+     * @author Hao.
+     * @since 2026/10/18 01:00
+     */
+    public Set<DataDictionaryResult> get(String key) {
+        final Entry entry = entries.get(Objects.toString(key, ""));
+        return Objects.isNull(entry) ? null : entry.results;
+    }
+
+    /**
+     * 快照中数据字典的加载时间
+     * @param key 数据模型名（对应@ChangeModel中的 modelName）
+     * @return 加载时间（毫秒，没有快照时为0）
+     * @author Hao.
+     * @since 2026/10/18 01:00
+     */
+    public long loadedAt(String key) {
+        final Entry entry = entries.get(Objects.toString(key, ""));
+        return Objects.isNull(entry) ? 0L : entry.loadedAt;
+    }
+
+    /**
+     * 记录加载成功的数据字典，内容变化时在后台写入快照文件
+     * @param key 数据模型名（对应@ChangeModel中的 modelName）
+     * @param results 数据字典结果集
+     * @author Hao.
+     * @since 2026/10/18 01:00
+     */
+    public void save(String key, Set<DataDictionaryResult> results) {
+        if (Objects.isNull(results) || results == get(key)) {
+            // 同一个结果集来自快照本身，不是新加载的
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        final Entry old = entries.put(Objects.toString(key, ""), new Entry(results, now));
+        updatedAt = now;
+        if ((Objects.isNull(old) || !old.results.equals(results)) && dirty.compareAndSet(false, true)) {
+            try {
+                writer.schedule(this::flush, FLUSH_DELAY, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // 已关闭，由destroy写入
+            }
+        }
+    }
+
+    /**
+     * 快照的新旧：距最近一次从数据库加载成功的时间（内容未变化的加载不写入文件，重启后以文件中的加载时间为准）
+     * @return 毫秒（没有快照时为-1）
+     * @author Hao.
+     * @since 2026/10/18 01:00
+     */
+    public long age() {
+        final long updatedAt = this.updatedAt;
+        return updatedAt == 0L ? -1L : Math.max(System.currentTimeMillis() - updatedAt, 0L);
+    }
+
+    /**
+     * 快照中数据字典的个数
+     * @return int
+     * @author Hao.
+     * @since 2026/10/18 01:00
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 从数据库重新加载快照预热的数据字典（一次查询），失败时保留快照中的数据字典
+     */
+    private void revalidate(Cache cache, List<String> keys) {
+        try {
+            for (Map.Entry<String, Set<DataDictionaryResult>> entry : dataDictionary.getObject().reload(keys).entrySet()) {
+                cache.put(DefaultDataDictionary.DICTIONARY_KEY + entry.getKey(), entry.getValue());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to revalidate dictionaries from the snapshot, keep the snapshot until the next load. cause: {}", e.toString());
+        }
+    }
+
+    /**
+     * 写入快照文件：先写临时文件，再替换快照文件（读到的快照文件总是完整的）
+     */
+    private synchronized void flush() {
+        dirty.set(false);
+        final Map<String, Entry> snapshot = new TreeMap<>(entries);
+        final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (Objects.nonNull(path.getParent())) {
+                Files.createDirectories(path.getParent());
+            }
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                final CRC32 crc = new CRC32();
+                final DataOutputStream out = new DataOutputStream(new CheckedOutputStream(file, crc));
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+                    writeString(out, entry.getKey());
+                    out.writeLong(entry.getValue().loadedAt);
+                    out.writeInt(entry.getValue().results.size());
+                    for (DataDictionaryResult result : entry.getValue().results) {
+                        writeString(out, result.getName());
+                        final Set<DataDictionaryResult.Map> maps = Objects.isNull(result.getMaps()) ? Collections.emptySet() : result.getMaps();
+                        out.writeInt(maps.size());
+                        for (DataDictionaryResult.Map map : maps) {
+                            writeString(out, map.getCode());
+                            writeString(out, map.getValue());
+                        }
+                    }
+                }
+                out.flush();
+                new DataOutputStream(file).writeInt((int) crc.getValue());
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // 下次内容变化时重新写入
+            log.warn("Failed to write the dictionary snapshot [{}]: {}", path, e.toString());
+        }
+    }
+
+    /**
+     * 读取快照文件（读入堆内存，不保留文件映射，写入时可以替换快照文件），校验魔数、格式版本和校验和
+     */
+    private void read() throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        final byte[] bytes = Files.readAllBytes(path);
+        if (bytes.length < 16) {
+            throw new IOException("invalid size " + bytes.length);
+        }
+        try {
+            // 末尾4个字节是校验和
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - 4);
+            final CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length - 4);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("not a dictionary snapshot");
+            }
+            final int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("unsupported format version " + version);
+            }
+            if ((int) crc.getValue() != ByteBuffer.wrap(bytes).getInt(bytes.length - 4)) {
+                throw new IOException("checksum mismatch");
+            }
+
+            final int count = buffer.getInt();
+            long updatedAt = 0L;
+            for (int i = 0; i < count; i++) {
+                final String key = readString(buffer);
+                final long loadedAt = buffer.getLong();
+                final int resultCount = buffer.getInt();
+                Set<DataDictionaryResult> results = new LinkedHashSet<>();
+                for (int j = 0; j < resultCount; j++) {
+                    DataDictionaryResult result = new DataDictionaryResult();
+                    result.setName(readString(buffer));
+                    final int mapCount = buffer.getInt();
+                    LinkedHashSet<DataDictionaryResult.Map> maps = new LinkedHashSet<>();
+                    for (int k = 0; k < mapCount; k++) {
+                        maps.add(new DataDictionaryResult.Map(readString(buffer), readString(buffer)));
+                    }
+                    result.setMaps(maps);
+                    results.add(result);
+                }
+                entries.put(key, new Entry(results, loadedAt));
+                updatedAt = Math.max(updatedAt, loadedAt);
+            }
+            this.updatedAt = updatedAt;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("truncated", e);
+        }
+        log.info("Loaded {} dictionaries from the snapshot [{}] (age {} s).", entries.size(), path, age() / 1000);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (Objects.isNull(value)) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 快照：数据字典结果集及其加载时间
+     */
+    private static final class Entry {
+
+        private final Set<DataDictionaryResult> results;
+
+        /** 加载时间（毫秒） */
+        private final long loadedAt;
+
+        private Entry(Set<DataDictionaryResult> results, long loadedAt) {
+            this.results = results;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
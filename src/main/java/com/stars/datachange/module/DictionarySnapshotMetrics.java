@@ -0,0 +1,36 @@
+package com.stars.datachange.module;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.BeanFactory;
+
+/**
+ * 数据字典快照的指标（classpath中有Micrometer时使用）
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+final class DictionarySnapshotMetrics {
+
+    private DictionarySnapshotMetrics() {
+    }
+
+    /**
+     * 注册快照的新旧、数据字典个数（容器中有唯一的MeterRegistry时）
+     * @param beanFactory 容器
+     * @param snapshot 数据字典快照
+     * @author Hao.
+     * @since 2026/10/18 01:00
+     */
+    static void register(BeanFactory beanFactory, DictionarySnapshot snapshot) {
+        beanFactory.getBeanProvider(MeterRegistry.class).ifUnique(registry -> {
+            Gauge.builder("stars.dictionary.snapshot.age", snapshot, o -> o.age() < 0 ? Double.NaN : o.age() / 1000.0)
+                    .description("Seconds since the dictionary snapshot was last loaded from the database")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("stars.dictionary.snapshot.size", snapshot, DictionarySnapshot::size)
+                    .description("Number of dictionaries in the dictionary snapshot")
+                    .register(registry);
+        });
+    }
+}
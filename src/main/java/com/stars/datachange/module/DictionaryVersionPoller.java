@@ -0,0 +1,157 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.autoconfigure.StarsProperties;
+import com.stars.datachange.mapper.StarsDictionaryMapper;
+import com.stars.datachange.model.response.DataDictionaryResult;
+import com.stars.datachange.model.response.DataDictionaryVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 数据字典版本轮询<p>
+ *     配置了{@code stars.dictionary.field-version}时开启：每隔{@code stars.dictionary.version-poll-interval}秒，
+ *     用一条聚合查询获取各数据字典的版本（版本列的最大值、字典项的个数），与上次轮询的结果比较<p>
+ *     只重新加载版本变化、且已缓存的数据字典（一次查询），逐个替换缓存中的数据字典（转换中的线程要么拿到旧字典，要么拿到新字典）；
+ *     被删除的数据字典从缓存中移除<p>
+ *     PS: 只在开启缓存（{@code stars.cache.open}）时生效，不开启缓存时每次转换都会查询最新的数据字典
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 00:00
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "stars.dictionary", name = "field-version")
+public class DictionaryVersionPoller implements SmartInitializingSingleton, DisposableBean {
+
+    @Autowired
+    private ObjectProvider<StarsDictionaryMapper> starsDictionaryMapper;
+
+    @Autowired
+    private ObjectProvider<DataDictionary> dataDictionary;
+
+    /** 缓存管理器（缓存管理器依赖数据字典模块，使用时再获取） */
+    @Autowired
+    private ObjectProvider<CacheManager> cacheManager;
+
+    @Value("${stars.cache.open:false}")
+    private boolean cacheOpen;
+
+    /** 轮询线程 */
+    private ScheduledExecutorService scheduler;
+
+    /** 数据模型名 → 版本（上次轮询的结果，首次轮询只记录） */
+    private volatile Map<String, String> versions;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!StarsProperties.config.isDb() || Objects.isNull(starsDictionaryMapper.getIfAvailable())) {
+            log.warn("Dictionary version polling is not available: not a database environment.");
+            return;
+        }
+        if (!cacheOpen) {
+            log.info("Dictionary version polling is skipped: cache is not open, dictionaries are always loaded from database.");
+            return;
+        }
+        final long interval = Math.max(StarsProperties.dictionary.getVersionPollInterval(), 1L);
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "stars-dictionary-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, 0, interval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (Objects.nonNull(scheduler)) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 轮询一次：比较各数据字典的版本，重新加载版本变化的数据字典
+     * @author Hao.
+     * @since 2026/10/18 00:00
+     */
+    public synchronized void poll() {
+        final Map<String, String> current;
+        try {
+            final List<DataDictionaryVersion> list = starsDictionaryMapper.getObject().findVersions(StarsProperties.dictionary);
+            current = CollectionUtils.newHashMap(list.size());
+            for (DataDictionaryVersion o : list) {
+                current.put(o.getKey(), o.getVersion() + "#" + o.getTotal());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to poll dictionary versions, retry in the next round. cause: {}", e.toString());
+            return;
+        }
+        final Map<String, String> previous = this.versions;
+        if (Objects.isNull(previous)) {
+            this.versions = current;
+            return;
+        }
+
+        Set<String> changed = new LinkedHashSet<>();
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        Set<String> removed = new LinkedHashSet<>(previous.keySet());
+        removed.removeAll(current.keySet());
+        if (!changed.isEmpty() || !removed.isEmpty()) {
+            try {
+                refresh(changed, removed);
+            } catch (Exception e) {
+                // 不记录本次版本，下次轮询时重新加载
+                log.warn("Failed to reload changed dictionaries {}, retry in the next round. cause: {}", changed, e.toString());
+                return;
+            }
+        }
+        this.versions = current;
+    }
+
+    /**
+     * 重新加载版本变化的数据字典，移除被删除的数据字典
+     */
+    private void refresh(Set<String> changed, Set<String> removed) {
+        final CacheManager cacheManager = this.cacheManager.getIfAvailable();
+        final Cache cache = Objects.isNull(cacheManager) ? null : cacheManager.getCache("stars");
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        // 只重新加载已缓存的数据字典，未缓存的在下次使用时加载
+        List<String> cached = new ArrayList<>(changed.size());
+        for (String name : changed) {
+            if (Objects.nonNull(cache.get(DefaultDataDictionary.DICTIONARY_KEY + name))) {
+                cached.add(name);
+            }
+        }
+        if (!cached.isEmpty()) {
+            for (Map.Entry<String, Set<DataDictionaryResult>> entry : dataDictionary.getObject().reload(cached).entrySet()) {
+                cache.put(DefaultDataDictionary.DICTIONARY_KEY + entry.getKey(), entry.getValue());
+            }
+        }
+        for (String name : removed) {
+            cache.evict(DefaultDataDictionary.DICTIONARY_KEY + name);
+        }
+        // 数据模型名为空时缓存的全部数据字典
+        cache.evict(DefaultDataDictionary.DICTIONARY_KEY);
+        cache.evict(DefaultDataDictionary.DICTIONARY_KEY + null);
+        log.info("Dictionary versions changed, reloaded: {}, removed: {}", cached, removed);
+    }
+}
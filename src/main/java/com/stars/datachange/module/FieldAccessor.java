@@ -0,0 +1,99 @@
+package com.stars.datachange.module;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * 属性访问器<p>
+ *     每个属性只创建一次，基于{@link MethodHandle}读写属性；无法创建{@link MethodHandle}时，回退到反射
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 11:30
+ */
+@Slf4j
+public final class FieldAccessor {
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** 属性 */
+    private final Field field;
+
+    /** 读属性 (Object)Object */
+    private final MethodHandle getter;
+
+    /** 写属性 (Object, Object)void */
+    private final MethodHandle setter;
+
+    public FieldAccessor(Field field) {
+        field.setAccessible(true);
+        this.field = field;
+        this.getter = getter(field);
+        this.setter = setter(field);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * 读属性
+     * @param o 数据
+     * @return 属性值
+     */
+    @SneakyThrows
+    public Object get(Object o) {
+        if (Objects.isNull(getter)) {
+            return field.get(o);
+        }
+        return (Object) getter.invokeExact(o);
+    }
+
+    /**
+     * 写属性
+     * @param o 数据
+     * @param value 属性值
+     */
+    @SneakyThrows
+    public void set(Object o, Object value) {
+        if (Objects.isNull(setter)) {
+            field.set(o, value);
+            return;
+        }
+        setter.invokeExact(o, value);
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(GETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("Getter of {} switched back to reflection: {}", field, e.toString());
+            return null;
+        }
+    }
+
+    private static MethodHandle setter(Field field) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(SETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("Setter of {} switched back to reflection: {}", field, e.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.autoconfigure.StarsProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * 并行转换<p>
+ *     集合的元素个数达到{@code stars.config.parallel-threshold}时，按下标把集合拆分到{@link ForkJoinPool}中转换，结果按下标写回，保证顺序<p>
+ *     并行度由{@code stars.config.parallelism}指定（小于等于0时使用公共线程池）；各线程共享只读的处理模型与数据字典索引<p>
+ *     专用线程池在首次使用时创建，应用关闭时由{@link ConversionPools}关闭
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 18:30
+ */
+public final class ParallelConversion {
+
+    /** 每个任务至少转换的元素个数 */
+    private static final int MIN_SLICE = 256;
+
+    /** 专用线程池（并行度大于0时创建） */
+    private static volatile ForkJoinPool pool;
+
+    /** 并行度变更后被替换的线程池（其他线程可能仍在使用，关闭时一并关闭） */
+    private static final List<ForkJoinPool> RETIRED = new ArrayList<>();
+
+    private ParallelConversion() {
+    }
+
+    /**
+     * 是否并行转换
+     * @param size 集合的元素个数
+     * @return boolean
+     * @author Hao.
+     * @since 2026/10/17 18:30
+     */
+    public static boolean enabled(int size) {
+        if (Objects.isNull(StarsProperties.config)) {
+            return false;
+        }
+        final int threshold = StarsProperties.config.getParallelThreshold();
+        return threshold > 0 && size >= threshold && parallelism() > 1;
+    }
+
+    /**
+     * 并行执行：对[0, size)的每个下标执行一次action，全部执行完后返回
+     * @param size 元素个数
+     * @param action 转换下标对应的元素
+     * @author Hao.
+     * @since 2026/10/17 18:30
+     */
+    public static void forEach(int size, IntConsumer action) {
+        final ForkJoinPool pool = pool();
+        final int slice = Math.max(MIN_SLICE, size / (pool.getParallelism() << 2));
+        pool.invoke(new Slice(0, size, slice, action));
+    }
+
+    private static int parallelism() {
+        final int parallelism = StarsProperties.config.getParallelism();
+        return parallelism > 0 ? parallelism : ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    private static ForkJoinPool pool() {
+        final int parallelism = StarsProperties.config.getParallelism();
+        if (parallelism <= 0) {
+            return ForkJoinPool.commonPool();
+        }
+        ForkJoinPool pool = ParallelConversion.pool;
+        if (Objects.isNull(pool) || pool.getParallelism() != parallelism) {
+            synchronized (ParallelConversion.class) {
+                pool = ParallelConversion.pool;
+                if (Objects.isNull(pool) || pool.getParallelism() != parallelism) {
+                    // 不关闭旧线程池：其他线程可能仍在向其提交任务，关闭时一并关闭
+                    if (Objects.nonNull(pool)) {
+                        RETIRED.add(pool);
+                    }
+                    pool = new ForkJoinPool(parallelism, p -> {
+                        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                        thread.setName("stars-datachange-" + thread.getPoolIndex());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, null, false);
+                    ParallelConversion.pool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * 关闭专用线程池（应用关闭时调用）：已提交的转换执行完后线程退出；之后再并行转换时重新创建
+     * @author Hao.
+     * @since 2026/10/18 01:00
+     */
+    public static void shutdown() {
+        synchronized (ParallelConversion.class) {
+            if (Objects.nonNull(pool)) {
+                pool.shutdown();
+                pool = null;
+            }
+            RETIRED.forEach(ForkJoinPool::shutdown);
+            RETIRED.clear();
+        }
+    }
+
+    /**
+     * 转换任务：[from, to)
+     */
+    private static final class Slice extends RecursiveAction {
+
+        private final int from;
+
+        private final int to;
+
+        private final int slice;
+
+        private final IntConsumer action;
+
+        private Slice(int from, int to, int slice, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.slice = slice;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= slice) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new Slice(from, middle, slice, action), new Slice(middle, to, slice, action));
+        }
+    }
+}
@@ -8,27 +8,31 @@ import com.stars.datachange.exception.ChangeException;
 import com.stars.datachange.exception.ChangeModelException;
 import com.stars.datachange.exception.ChangeModelPropertyException;
 import com.stars.datachange.model.code.BaseCode;
+import com.stars.datachange.model.code.BaseCodeIndex;
 import com.stars.datachange.model.response.DataDictionaryResult;
-import com.stars.datachange.utils.RegexUtils;
 import com.stars.datachange.utils.StringUtils;
-import lombok.Data;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.CollectionUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.stars.datachange.utils.DataChangeUtils.ROLLBACK;
 
 /**
- * 数据转换处理模型
+ * 数据转换处理模型<p>
+ *     只有getter：处理模型在创建时解析、冻结后在多线程间共享，不能在外部修改
  * @author zhouhao
  * @since  2021/9/6 17:05
  */
 @Slf4j
-@Data
+@Getter
 public class Process {
 
     /** 默认映射属性的后缀 */
@@ -101,6 +105,11 @@ public class Process {
      */
     private Map<String, String> splitDelimiter = new HashMap<>();
 
+    /**
+     * 多选值属性的分割器（冻结时按分割符创建）
+     */
+    private Map<String, SplitTokenizer> splitTokenizers = new HashMap<>();
+
     /**
      * 中英对照集
      */
@@ -118,7 +127,65 @@ public class Process {
      * key-属性名
      * value-别名
      */
-    private final Map<String, String> alias = new HashMap<>();
+    private Map<String, String> alias = new HashMap<>();
+
+    /**
+     * 属性访问器（与{@link Process#getFields}的顺序一致）
+     * key-属性
+     * value-属性访问器
+     */
+    private Map<Field, FieldAccessor> accessors = new LinkedHashMap<>();
+
+    /**
+     * 映射属性的访问器（创建处理模型时解析一次；不需要转换或没有映射属性的字段不在其中）
+     * key-源属性
+     * value-映射后的属性访问器
+     */
+    private Map<Field, FieldAccessor> targets = new HashMap<>();
+
+    /**
+     * 数据字典名称（创建处理模型时解析一次）<p>
+     *     数据模型及其重入属性可达的所有数据模型中，数据转换来源为{@link ChangeModel.Source#DB}的数据模型名，用于一次加载多个数据字典
+     */
+    private Set<String> dictionaryNames = new LinkedHashSet<>();
+
+    /**
+     * 数据模型转换器：优先使用注解处理器生成的转换器，其次是编译转换引擎（都没有时为null，使用反射转换）
+     */
+    private ChangeConverter converter;
+
+    /**
+     * 数据转换处理模型缓存<p>
+     *     每个数据模型只创建一次处理模型；基于{@link ClassValue}，不会阻止热部署的类加载器被回收
+     */
+    private static final ClassValue<Process> PROCESS = new ClassValue<Process>() {
+        @Override
+        protected Process computeValue(Class<?> type) {
+            final Process process = create(type, new Process());
+            for (Field field : getFields(type, new ArrayList<>())) {
+                process.getAccessors().put(field, new FieldAccessor(field));
+            }
+            process.resolveTargets(type);
+            process.resolveDictionaryNames(type);
+            process.converter = ConverterRegistry.get(type);
+            if (Objects.isNull(process.getConverter()) && CompiledConverter.enabled()) {
+                process.converter = CompiledConverter.compile(type, process);
+            }
+            return process.freeze();
+        }
+    };
+
+    /**
+     * 获取数据转换处理模型（缓存）<p>
+     *     处理模型不持有数据字典，数据字典通过{@link Process#dictionary(DataDictionary)}按引用获取，以保证字典刷新后依然生效
+     * @param dataClass 数据模型
+     * @return Process 只读的数据转换处理模型
+     * @author Hao.
+     * @since 2026/10/17 10:00
+     */
+    public static Process of(Class<?> dataClass) {
+        return PROCESS.get(dataClass);
+    }
 
     /**
      * 创建数据转换处理模型
@@ -130,29 +197,43 @@ public class Process {
      * @since  2021/9/7 9:55
      */
     public static Process create(Class<?> dataClass, Process process, DataDictionary dataDictionary){
+        create(dataClass, process);
+        process.dictionaryResult = process.loadDictionary(dataDictionary);
+        return process;
+    }
+
+    /**
+     * 创建数据转换处理模型（不加载数据字典）
+     * @param dataClass 数据模型
+     * @param process 数据转换处理模型
+     * @return DataChangeUtils.Process
+     * @author Hao.
+     * @since 2026/10/17 10:00
+     */
+    public static Process create(Class<?> dataClass, Process process){
         if(!dataClass.isAnnotationPresent(ChangeModel.class)){
             throw new ChangeModelException("Data change model cannot be null!");
         }
 
-        process.setChangeModel(dataClass.getAnnotation(ChangeModel.class));
-        process.setSource(process.getChangeModel().source());
+        process.changeModel = dataClass.getAnnotation(ChangeModel.class);
+        process.source = process.getChangeModel().source();
 
         // 数据转换来源：自动
         if (process.getSource().equals(ChangeModel.Source.AUTO)) {
             if (!process.getChangeModel().value().equals(Enum.class) || !process.getChangeModel().modelCode().equals(Enum.class)) {
-                process.setSource(ChangeModel.Source.ENUM);
+                process.source = ChangeModel.Source.ENUM;
             } else if (StringUtils.isNotEmpty(process.getChangeModel().modelName())) {
-                process.setSource(ChangeModel.Source.DB);
+                process.source = ChangeModel.Source.DB;
             } else {
-                process.setSource(ChangeModel.Source.NONE);
+                process.source = ChangeModel.Source.NONE;
             }
         }
 
         // 数据转换来源：数据代码模型
         if (process.getSource().equals(ChangeModel.Source.ENUM)) {
-            process.setModelCode(process.getChangeModel().value());
+            process.modelCode = process.getChangeModel().value();
             if (!process.getChangeModel().modelCode().equals(Enum.class)) {
-                process.setModelCode(process.getChangeModel().modelCode());
+                process.modelCode = process.getChangeModel().modelCode();
             }
             if(process.getModelCode().equals(Enum.class)){
                 throw new ChangeModelException("Failed to bind code model!");
@@ -162,28 +243,11 @@ public class Process {
             }
         }
 
-        // 数据转换来源：数据字典
-        if(process.getSource().equals(ChangeModel.Source.DB)) {
-            try{
-                process.setDictionaryResult(dataDictionary.dataDictionary(process.getChangeModel().modelName()));
-            }catch (ChangeException e){
-                throw e;
-            }catch (Exception e){
-                log.error("Failed to bind data dictionary: {}", e.toString());
-                throw new ChangeModelException("Failed to bind data dictionary, please check configuration!");
-            }
-            if(CollectionUtils.isEmpty(process.getDictionaryResult())){
-                throw new ChangeModelPropertyException("Please add some data to the data dictionary and try again!");
-            }
-        }
-
         Field[] fields = dataClass.getDeclaredFields();
         // 需要兼容的注解
         Set<Class<? extends Annotation>> compatible = new HashSet<>();
         for(Field field : fields){
-            if(!field.isAccessible()){
-                field.setAccessible(true);
-            }
+            field.setAccessible(true);
 
             // 可重入字段
             if (field.isAnnotationPresent(ReentrantChangeModelProperty.class)) {
@@ -256,20 +320,173 @@ public class Process {
         }
         // 需要兼容的注解
         if(process.getChangeModel().compatible().length == 0) {
-            process.setCompatible(compatible);
+            process.compatible = compatible;
         }else{
-            process.setCompatible(new HashSet<>(Arrays.stream(process.getChangeModel().compatible())
+            process.compatible = new HashSet<>(Arrays.stream(process.getChangeModel().compatible())
                     .filter(o -> !o.getName().equals(ChangeModelProperty.class.getName()))
-                    .collect(Collectors.toSet())));
+                    .collect(Collectors.toSet()));
         }
 
         // 若父类是通用的，跳过处理阶段
         if(!dataClass.getSuperclass().equals(Object.class) && dataClass.getSuperclass().isAnnotationPresent(ChangeModel.class)){
-            create(dataClass.getSuperclass(), process, dataDictionary);
+            create(dataClass.getSuperclass(), process);
         }
         return process;
     }
 
+    /**
+     * 获取数据字典<p>
+     *     数据转换来源不是{@link ChangeModel.Source#DB}时，返回null；并发获取同一个数据字典时只加载一次
+     * @param dataDictionary 数据字典模块
+     * @return 数据字典索引
+     * @author Hao.
+     * @since 2026/10/17 10:00
+     */
+    public DataDictionaryIndex dictionary(DataDictionary dataDictionary) {
+        final Set<DataDictionaryResult> dictionaryResult = loadDictionary(dataDictionary);
+        return Objects.isNull(dictionaryResult) ? null : DataDictionaryIndex.of(dictionaryResult);
+    }
+
+    /**
+     * 加载数据字典（数据转换来源不是{@link ChangeModel.Source#DB}时，返回null）
+     */
+    private Set<DataDictionaryResult> loadDictionary(DataDictionary dataDictionary) {
+        if(!ChangeModel.Source.DB.equals(this.getSource())) {
+            return null;
+        }
+        Set<DataDictionaryResult> dictionaryResult;
+        try{
+            dictionaryResult = DataDictionaryLoader.load(dataDictionary, this.getChangeModel().modelName());
+        }catch (ChangeException e){
+            throw e;
+        }catch (Exception e){
+            log.error("Failed to bind data dictionary: {}", e.toString());
+            throw new ChangeModelException("Failed to bind data dictionary, please check configuration!");
+        }
+        if(CollectionUtils.isEmpty(dictionaryResult)){
+            throw new ChangeModelPropertyException("Please add some data to the data dictionary and try again!");
+        }
+        return dictionaryResult;
+    }
+
+    /**
+     * 冻结数据转换处理模型，使其可在多线程间共享
+     * @return Process
+     * @author Hao.
+     * @since 2026/10/17 10:00
+     */
+    private Process freeze() {
+        this.compatible = Collections.unmodifiableSet(this.compatible);
+        this.ignoreFields = Collections.unmodifiableSet(this.ignoreFields);
+        this.splitFields = Collections.unmodifiableSet(this.splitFields);
+        this.bitOperationFields = Collections.unmodifiableSet(this.bitOperationFields);
+        this.skipComparisonFields = Collections.unmodifiableSet(this.skipComparisonFields);
+        this.reentrantFields = Collections.unmodifiableSet(this.reentrantFields);
+        this.chineseIgnoreDelimiter = Collections.unmodifiableMap(this.chineseIgnoreDelimiter);
+        this.splitDelimiter = Collections.unmodifiableMap(this.splitDelimiter);
+        for (String name : this.splitFields) {
+            this.splitTokenizers.put(name, SplitTokenizer.of(this.splitDelimiter.get(name)));
+        }
+        this.splitTokenizers = Collections.unmodifiableMap(this.splitTokenizers);
+        this.chineseEnglish = Collections.unmodifiableMap(this.chineseEnglish);
+        this.mapping = Collections.unmodifiableMap(this.mapping);
+        this.alias = Collections.unmodifiableMap(this.alias);
+        this.accessors = Collections.unmodifiableMap(this.accessors);
+        this.targets = Collections.unmodifiableMap(this.targets);
+        this.dictionaryNames = Collections.unmodifiableSet(this.dictionaryNames);
+        return this;
+    }
+
+    /**
+     * 解析需要转换的字段的映射属性<p>
+     *     映射属性无效时（不存在、或不是String类型），创建处理模型时直接抛出异常
+     * @param dataClass 数据模型
+     * @author Hao.
+     * @since 2026/10/17 16:00
+     */
+    private void resolveTargets(Class<?> dataClass) {
+        if (this.getSource().equals(ChangeModel.Source.NONE)) {
+            return;
+        }
+        final List<Map<String, Field>> fields = getDeclaredFields(dataClass);
+        final String[] mappingSuffix = mappingSuffix();
+        for (Field field : this.getAccessors().keySet()) {
+            final String name = field.getName();
+            if (this.isIgnore(name) || this.isReentrant(name)) {
+                continue;
+            }
+            final Field mappedField = getMappedField(this, fields, mappingSuffix, field);
+            if (Objects.nonNull(mappedField)) {
+                this.getTargets().put(field, this.getAccessors().get(mappedField));
+            }
+        }
+    }
+
+    /**
+     * 解析数据模型及其重入属性可达的数据模型需要的数据字典名称<p>
+     *     按重入属性声明的类型（数组的元素类型、集合的泛型参数、对象本身）逐层查找，每个数据模型只解析一次
+     * @param dataClass 数据模型
+     * @author Hao.
+     * @since 2026/10/17 20:00
+     */
+    private void resolveDictionaryNames(Class<?> dataClass) {
+        final Set<Class<?>> visited = new HashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        visited.add(dataClass);
+        queue.add(dataClass);
+        while (!queue.isEmpty()) {
+            final Class<?> type = queue.poll();
+            final Process process;
+            if (type.equals(dataClass)) {
+                process = this;
+            } else {
+                try {
+                    process = create(type, new Process());
+                } catch (ChangeException e) {
+                    // 数据模型有误时，转换到该数据模型时再抛出异常
+                    continue;
+                }
+            }
+            if (ChangeModel.Source.DB.equals(process.getSource())) {
+                this.getDictionaryNames().add(process.getChangeModel().modelName());
+            }
+            for (Field field : getFields(type, new ArrayList<>())) {
+                if (!process.isReentrant(field.getName())) {
+                    continue;
+                }
+                final Class<?> reentrantType = reentrantType(field);
+                if (Objects.nonNull(reentrantType) && reentrantType.isAnnotationPresent(ChangeModel.class) && visited.add(reentrantType)) {
+                    queue.add(reentrantType);
+                }
+            }
+        }
+    }
+
+    /**
+     * 重入属性声明的数据模型
+     * @param field 重入属性
+     * @return 数组的元素类型、集合的泛型参数、对象本身（无法确定时为null）
+     */
+    private static Class<?> reentrantType(Field field) {
+        final Class<?> type = field.getType();
+        if (type.isArray()) {
+            return type.getComponentType();
+        }
+        if (!Collection.class.isAssignableFrom(type)) {
+            return type;
+        }
+        if (field.getGenericType() instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+            if (argument instanceof WildcardType) {
+                argument = ((WildcardType) argument).getUpperBounds()[0];
+            }
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        return null;
+    }
+
     /**
      * 是否忽略数据转换
      * @param field 字段名
@@ -300,6 +517,18 @@ public class Process {
         return fields.contains(field);
     }
 
+    /**
+     * 获取多选值属性的分割器
+     * @param field 字段名
+     * @return SplitTokenizer
+     * @author Hao.
+     * @since 2026/10/17 22:30
+     */
+    public SplitTokenizer splitTokenizer(String field) {
+        final SplitTokenizer tokenizer = this.getSplitTokenizers().get(field);
+        return Objects.nonNull(tokenizer) ? tokenizer : SplitTokenizer.of(this.getSplitDelimiter().get(field));
+    }
+
     /**
      * 是否进行位运算
      * @param field 字段名
@@ -374,57 +603,124 @@ public class Process {
     /**
      * 多选值分割转义
      * @param name 要转义的字段名
-     * @param data 多选值（regex分割）
+     * @param data 多选值（按分割符原样分割，不使用正则）
      * @param delimiter 分割符
      * @return java.lang.String 通过delimiter转义后的多选值
      * @author zhouhao
      * @since  2020/5/29 15:01
+     * @deprecated 转换过程中不再设置{@link com.stars.datachange.utils.DataChangeUtils#ROLLBACK}，使用带rollback参数的方法
      */
+    @Deprecated
     public static String splitConversion(Class<? extends Enum> modelCode, String name, String data, String delimiter) {
-        if(StringUtils.isEmpty(delimiter)){
-            return splitConversion(modelCode, name, data);
-        }
-        if (StringUtils.isNotEmpty(data)) {
-            String delimiter_ = delimiter.replace(".", "\\.").replace("|", "\\|");
-            List<String> list = Arrays.asList(data.split(delimiter_));
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < list.size(); i++) {
-                String s = ROLLBACK.get() ? BaseCode.key(modelCode, name, list.get(i)) : BaseCode.value(modelCode, name, list.get(i));
-                if (StringUtils.isNotEmpty(s)) {
-                    sb.append(s).append(list.size() - 1 == i ? "" : delimiter);
-                }
-            }
-            return sb.toString();
-        }
-        return "";
+        return splitConversion(modelCode, name, data, delimiter, ROLLBACK.get());
+    }
+
+    /**
+     * 多选值分割转义
+     * @param modelCode 代码模型
+     * @param name 要转义的字段名
+     * @param data 多选值（按分割符原样分割，不使用正则）
+     * @param delimiter 分割符
+     * @param rollback 是否反转（V转K）
+     * @return java.lang.String 通过delimiter转义后的多选值
+     * @author Hao.
+     * @since 2026/10/17 18:30
+     */
+    public static String splitConversion(Class<? extends Enum> modelCode, String name, String data, String delimiter, boolean rollback) {
+        // 代码 → 值 / 值 → 代码（反转）的对照表，整个多选值只取一次
+        final Map<String, String> table = rollback ? BaseCodeIndex.of(modelCode).keys(name) : BaseCodeIndex.of(modelCode).values(name);
+        return SplitTokenizer.of(delimiter).join(data, table);
+    }
+
+    /**
+     * 多选值分割转义
+     * @param modelCode 代码模型
+     * @param name 要转义的字段名
+     * @param data 多选值
+     * @param tokenizer 分割器
+     * @param rollback 是否反转（V转K）
+     * @param type 映射属性的类型（String、String[]或List）
+     * @return 转义后的多选值（String），或转义后的各个值（String[]、List）
+     * @author Hao.
+     * @since 2026/10/17 22:30
+     */
+    public static Object splitConversion(Class<? extends Enum> modelCode, String name, String data, SplitTokenizer tokenizer, boolean rollback, Class<?> type) {
+        final Map<String, String> table = rollback ? BaseCodeIndex.of(modelCode).keys(name) : BaseCodeIndex.of(modelCode).values(name);
+        return tokenizer.convert(data, table, type);
     }
 
     /**
      * 多选值分割转义
      * @param key 要转义的字段名
-     * @param data 多选值（regex分割）
+     * @param data 多选值（按分割符原样分割，不使用正则）
      * @param delimiter 分割符
      * @return java.lang.String 通过delimiter转义后的多选值
      * @author zhouhao
      * @since  2020/5/29 15:01
      */
     public static String splitConversion(Set<DataDictionaryResult> result, String key, String data, String delimiter) {
-        if(StringUtils.isEmpty(delimiter)){
-            return splitConversion(result, key, data);
-        }
-        if (StringUtils.isNotEmpty(data)) {
-            String delimiter_ = delimiter.replace(".", "\\.").replace("|", "\\|");
-            List<String> list = Arrays.asList(data.split(delimiter_));
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < list.size(); i++) {
-                String s = getValue(result, key, list.get(i));
-                if (StringUtils.isNotEmpty(s)) {
-                    sb.append(s).append(list.size() - 1 == i ? "" : delimiter);
-                }
-            }
-            return sb.toString();
-        }
-        return "";
+        return splitConversion(DataDictionaryIndex.of(result), key, data, delimiter);
+    }
+
+    /**
+     * 多选值分割转义
+     * @param dictionary 数据字典索引
+     * @param key 要转义的字段名
+     * @param data 多选值（逗号分割）
+     * @return java.lang.String 转义后的多选值（逗号分割）
+     * @author Hao.
+     * @since 2026/10/17 11:00
+     */
+    public static String splitConversion(DataDictionaryIndex dictionary, String key, String data) {
+        return splitConversion(dictionary, key, data, ",");
+    }
+
+    /**
+     * 多选值分割转义
+     * @param dictionary 数据字典索引
+     * @param key 要转义的字段名
+     * @param data 多选值（按分割符原样分割，不使用正则）
+     * @param delimiter 分割符
+     * @return java.lang.String 通过delimiter转义后的多选值
+     * @author Hao.
+     * @since 2026/10/17 11:00
+     * @deprecated 转换过程中不再设置{@link com.stars.datachange.utils.DataChangeUtils#ROLLBACK}，使用带rollback参数的方法
+     */
+    @Deprecated
+    public static String splitConversion(DataDictionaryIndex dictionary, String key, String data, String delimiter) {
+        return splitConversion(dictionary, key, data, delimiter, ROLLBACK.get());
+    }
+
+    /**
+     * 多选值分割转义
+     * @param dictionary 数据字典索引
+     * @param key 要转义的字段名
+     * @param data 多选值（按分割符原样分割，不使用正则）
+     * @param delimiter 分割符
+     * @param rollback 是否反转（V转K）
+     * @return java.lang.String 通过delimiter转义后的多选值
+     * @author Hao.
+     * @since 2026/10/17 18:30
+     */
+    public static String splitConversion(DataDictionaryIndex dictionary, String key, String data, String delimiter, boolean rollback) {
+        // 整个多选值只查找一次字典项
+        return SplitTokenizer.of(delimiter).join(data, dictionary.entry(key).table(rollback));
+    }
+
+    /**
+     * 多选值分割转义
+     * @param dictionary 数据字典索引
+     * @param key 要转义的字段名
+     * @param data 多选值
+     * @param tokenizer 分割器
+     * @param rollback 是否反转（V转K）
+     * @param type 映射属性的类型（String、String[]或List）
+     * @return 转义后的多选值（String），或转义后的各个值（String[]、List）
+     * @author Hao.
+     * @since 2026/10/17 22:30
+     */
+    public static Object splitConversion(DataDictionaryIndex dictionary, String key, String data, SplitTokenizer tokenizer, boolean rollback, Class<?> type) {
+        return tokenizer.convert(data, dictionary.entry(key).table(rollback), type);
     }
 
     /**
@@ -437,46 +733,111 @@ public class Process {
      * @since  2020/5/29 13:16
      */
     public static String getValue(Set<DataDictionaryResult> result, String name, String oo) {
-        Set<DataDictionaryResult.Map> maps = result.stream().filter(o -> o.getName().equals(name)).findFirst().map(DataDictionaryResult::getMaps).orElseGet(LinkedHashSet::new);
-        if(CollectionUtils.isEmpty(maps)){
-            return oo;
-        }
-        if (ROLLBACK.get()) {
-            return maps.stream().filter(o -> o.getValue().equals(oo)).findFirst().map(DataDictionaryResult.Map::getCode).orElse(oo);
-        }
-        return maps.stream().filter(o -> o.getCode().equals(oo)).findFirst().map(DataDictionaryResult.Map::getValue).orElse(oo);
+        return getValue(DataDictionaryIndex.of(result), name, oo);
+    }
+
+    /**
+     * 获取属性值
+     * @param dictionary 数据字典索引
+     * @param name 属性名
+     * @param oo 属性原值
+     * @return java.lang.Object 转义后的值
+     * @author Hao.
+     * @since 2026/10/17 11:00
+     * @deprecated 转换过程中不再设置{@link com.stars.datachange.utils.DataChangeUtils#ROLLBACK}，使用带rollback参数的方法
+     */
+    @Deprecated
+    public static String getValue(DataDictionaryIndex dictionary, String name, String oo) {
+        return getValue(dictionary, name, oo, ROLLBACK.get());
+    }
+
+    /**
+     * 获取属性值
+     * @param dictionary 数据字典索引
+     * @param name 属性名
+     * @param oo 属性原值
+     * @param rollback 是否反转（V转K）
+     * @return java.lang.Object 转义后的值
+     * @author Hao.
+     * @since 2026/10/17 18:30
+     */
+    public static String getValue(DataDictionaryIndex dictionary, String name, String oo, boolean rollback) {
+        return dictionary.entry(name).change(oo, rollback);
     }
 
     /**
      * 位运算
      * <br>
      * <br>实现思路：
-     *      <br>把位运算的数值转换为二进制码，把二进制码反转方便后面遍历计算。
-     *      <br>遍历二级制码时，遇1计算当前指针的平方，即：得出的多选值code，并添加到多选值列表中
-     *      <br>遍历结束后，多选值以逗号分隔的形式返回
+     *      <br>按{@link Long#numberOfTrailingZeros}遍历位数值中值为1的位，每一位对应一个多选值code（1、2、4、8…）
+     *      <br>多选值以逗号分隔的形式返回
      * @param o 位数值
      * @return java.lang.String 运算后的多选值（逗号分隔）
      * @author zhouhao
      * @since  2020/5/28 19:58
      */
     public static String bitOperation(Object o){
-        if (!RegexUtils.isNumber(o.toString())) {
+        if (!BitMask.isMask(o)) {
             log.warn("Bit operations is not possible, Please provide a valid bit operations value!");
             return o.toString();
         }
-        final int num = Integer.parseInt(o.toString());
-        String data = new StringBuffer(Integer.toBinaryString(num)).reverse().toString();
-        List<Integer> result = new ArrayList<>();
-        for (int i = 0; i < data.length(); i++) {
-            i = data.indexOf("1", i);
-            // 1 * 2的i次方
-            result.add(1 << i);
+        final long mask = BitMask.mask(o);
+        StringBuilder sb = new StringBuilder(Long.bitCount(mask) << 2);
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            if (sb.length() > 0) {
+                sb.append(BitMask.DELIMITER);
+            }
+            sb.append(BitMask.code(Long.numberOfTrailingZeros(bits)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 位运算转换
+     * @param modelCode 代码模型
+     * @param name 要转义的字段名
+     * @param o 位数值；反转时为多选值（逗号分割）
+     * @param rollback 是否反转（V转K）
+     * @return java.lang.String 转义后的多选值（逗号分割）；反转时为位数值
+     * @author Hao.
+     * @since 2026/10/17 17:30
+     */
+    public static String bitConversion(Class<? extends Enum> modelCode, String name, Object o, boolean rollback) {
+        return BitMask.of(modelCode, name).change(o, rollback);
+    }
+
+    /**
+     * 位运算转换
+     * @param dictionary 数据字典索引
+     * @param key 要转义的字段名
+     * @param o 位数值；反转时为多选值（逗号分割）
+     * @param rollback 是否反转（V转K）
+     * @return java.lang.String 转义后的多选值（逗号分割）；反转时为位数值
+     * @author Hao.
+     * @since 2026/10/17 17:30
+     */
+    public static String bitConversion(DataDictionaryIndex dictionary, String key, Object o, boolean rollback) {
+        return dictionary.entry(key).bitMask().change(o, rollback);
+    }
+
+    /**
+     * 得到映射属性的后缀
+     * @author Hao.
+     * @since 2026/10/17 15:00
+     * @return 配置的映射属性后缀，无法读取配置时使用{@link Process#MAPPING_SUFFIX}
+     */
+    public static String[] mappingSuffix() {
+        try{
+            return StarsProperties.config.getMappingSuffix();
+        }catch (Exception e){
+            log.warn("MAPPING_SUFFIX, switched back to default source. possible causes: abnormal program startup.");
+            return MAPPING_SUFFIX;
         }
-        return result.stream().map(Object::toString).collect(Collectors.joining(","));
     }
 
     /**
-     * 得到映射后的字段
+     * 得到映射后的字段<p>
+     *     转换时请使用{@link Process#getTargets()}中预先解析的结果
      * @author Hao.
      * @since 2022/4/30 11:50
      * @param process 数据转换处理模型
@@ -485,80 +846,105 @@ public class Process {
      * @return java.lang.reflect.Field
      */
     public static Field getMappedField(Process process, Class<?> dataClass, Field field) {
+        return getMappedField(process, getDeclaredFields(dataClass), mappingSuffix(), field);
+    }
+
+    /**
+     * 得到映射后的字段<p>
+     *     查找顺序：定义的属性映射 → 以Text、Str、Ext等结尾的字段（子类优先） → 源字段（前提：源字段为String类型）
+     * @author Hao.
+     * @since 2026/10/17 16:00
+     * @param process 数据转换处理模型
+     * @param fields 数据模型及其通用父类声明的字段（数据模型在前）
+     * @param mappingSuffix 映射属性的后缀
+     * @param field 源字段
+     * @return java.lang.reflect.Field 没有映射属性时返回null
+     */
+    private static Field getMappedField(Process process, List<Map<String, Field>> fields, String[] mappingSuffix, Field field) {
         // 原始字段名
         final String name = field.getName();
 
         // 映射的字段名
-        String mappingName = process.getMapping().get(name);
-
-        // 映射后的字段名
-        String mappedName;
+        final String mappingName = process.getMapping().get(name);
 
         // 映射后的字段
         Field mappedField = null;
 
-        // 默认映射属性的后缀
-        String[] mappingSuffix;
-        try{
-            mappingSuffix = StarsProperties.config.getMappingSuffix();
-        }catch (Exception e){
-            mappingSuffix = MAPPING_SUFFIX;
-            log.warn("MAPPING_SUFFIX, switched back to default source. possible causes: abnormal program startup.");
-        }
-
-        // 未定义属性映射，自动匹配属性映射
-        if (StringUtils.isEmpty(mappingName)) {
-
-            // 智能匹配以Text、Str、Ext等结尾的字段
-            for (String suffix : mappingSuffix) {
-                try {
-                    mappedField = dataClass.getDeclaredField(name + suffix);
-                    break;
-                } catch (NoSuchFieldException ignored) {}
+        if (StringUtils.isNotEmpty(mappingName)) {
+            // 使用定义的属性映射
+            mappedField = getField(fields, mappingName);
+            if (Objects.isNull(mappedField)) {
+                throw new ChangeModelPropertyException(String.format("Property mapping not found [%s] !", mappingName));
             }
-
-            // 未匹配到属性映射，去父类中匹配
-            if(Objects.isNull(mappedField)){
-                if(!dataClass.getSuperclass().equals(Object.class) && dataClass.getSuperclass().isAnnotationPresent(ChangeModel.class)){
-                    mappedField = getMappedField(process, dataClass.getSuperclass(), field);
+        } else {
+            // 智能匹配以Text、Str、Ext等结尾的字段（数据模型优先，其次是通用父类）
+            for (Map<String, Field> declared : fields) {
+                for (String suffix : mappingSuffix) {
+                    mappedField = declared.get(name + suffix);
+                    if (Objects.nonNull(mappedField)) {
+                        break;
+                    }
+                }
+                if (Objects.nonNull(mappedField)) {
+                    break;
                 }
             }
 
             // 未定义属性映射，使用源字段（前提：源字段为String类型）
-            if(Objects.isNull(mappedField)){
-                if(!field.getType().equals(String.class)){
+            if (Objects.isNull(mappedField)) {
+                if (!field.getType().equals(String.class)) {
                     return null;
                 }
+                mappedField = field;
             }
-            mappedName = name;
-        }else{
-            mappedName = mappingName;
         }
 
-        // 尝试使用 源字段 或 定义的属性映射
-        if(Objects.isNull(mappedField)){
-            try{
-                mappedField = dataClass.getDeclaredField(mappedName);
-            }catch (NoSuchFieldException e) {
-                if(dataClass.getSuperclass().equals(Object.class) || !dataClass.getSuperclass().isAnnotationPresent(ChangeModel.class)){
-                    throw new ChangeModelPropertyException(String.format("Property mapping not found [%s] !", mappedName));
-                }
-                // 尝试使用父类的 源字段 或 定义的属性映射
-                mappedField = getMappedField(process, dataClass.getSuperclass(), field);
-            }
+        // 源字段/属性映射 类型必须为String（多选值属性的映射属性还可以是String[]、List）
+        if (mappedField != field && process.isSplit(name) && !process.isBitOperation(name) && SplitTokenizer.supports(mappedField.getType())) {
+            mappedField.setAccessible(true);
+            return mappedField;
         }
-
-        // 源字段/属性映射 类型必须为String
         if(!mappedField.getType().equals(String.class)){
             throw new ChangeModelPropertyException(String.format("The mapped property must be of type java.lang.String [%s] !", mappedField.getName()));
         }
 
-        if(!mappedField.isAccessible()){
-            mappedField.setAccessible(true);
-        }
+        mappedField.setAccessible(true);
         return mappedField;
     }
 
+    /**
+     * 按字段名查找字段（数据模型优先，其次是通用父类）
+     */
+    private static Field getField(List<Map<String, Field>> fields, String name) {
+        for (Map<String, Field> declared : fields) {
+            final Field field = declared.get(name);
+            if (Objects.nonNull(field)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 按类分组的字段
+     * @param dataClass 数据模型
+     * @return 数据模型及其通用父类声明的字段（数据模型在前），key-字段名
+     */
+    private static List<Map<String, Field>> getDeclaredFields(Class<?> dataClass) {
+        List<Map<String, Field>> list = new ArrayList<>();
+        for (Class<?> c = dataClass; ; c = c.getSuperclass()) {
+            Map<String, Field> declared = new HashMap<>();
+            for (Field field : c.getDeclaredFields()) {
+                declared.put(field.getName(), field);
+            }
+            list.add(declared);
+            // 若父类是通用的，跳过处理阶段
+            if (c.getSuperclass().equals(Object.class) || !c.getSuperclass().isAnnotationPresent(ChangeModel.class)) {
+                return list;
+            }
+        }
+    }
+
     /**
      * 得到字段列表
      * @author Hao.
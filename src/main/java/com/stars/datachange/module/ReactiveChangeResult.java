@@ -0,0 +1,52 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.utils.DataChangeUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 响应式返回值的数据转换（Reactor为可选依赖，引入时{@link DataChangeAspect}才会使用此类）<p>
+ *     1. Mono、Flux中的元素流经时逐个转换（map），不会缓存整个Flux<p>
+ *     2. 订阅时在{@link Schedulers#boundedElastic()}上预先加载数据字典（数据模型及其重入属性需要的），不阻塞发布元素的线程<p>
+ *     3. 无法从返回值类型确定数据模型时，元素切换到{@link Schedulers#boundedElastic()}上转换
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 21:30
+ */
+final class ReactiveChangeResult {
+
+    private ReactiveChangeResult() {
+    }
+
+    static boolean isReactive(Object result) {
+        return result instanceof Mono || result instanceof Flux;
+    }
+
+    /**
+     * 转换响应式返回值
+     * @param result Mono或Flux
+     * @param elementType 元素的数据模型（无法确定时为null）
+     * @param rollback 是否反转（V转K）
+     * @return 转换后的Mono或Flux
+     */
+    static Object convert(Object result, Class<?> elementType, boolean rollback) {
+        if (Objects.isNull(elementType)) {
+            final Consumer<Object> converter = DataChangeUtils.beanConverter(rollback);
+            if (result instanceof Mono) {
+                return ((Mono<?>) result).publishOn(Schedulers.boundedElastic()).map(o -> DataChangeAspect.convert(o, converter));
+            }
+            return ((Flux<?>) result).publishOn(Schedulers.boundedElastic()).map(o -> DataChangeAspect.convert(o, converter));
+        }
+
+        final Mono<Consumer<Object>> converter = Mono.<Consumer<Object>>fromCallable(() -> DataChangeUtils.beanConverter(elementType, rollback))
+                .subscribeOn(Schedulers.boundedElastic());
+        if (result instanceof Mono) {
+            return converter.flatMap(c -> ((Mono<?>) result).map(o -> DataChangeAspect.convert(o, c)));
+        }
+        return converter.flatMapMany(c -> ((Flux<?>) result).map(o -> DataChangeAspect.convert(o, c)));
+    }
+}
@@ -0,0 +1,174 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 多选值分割器<p>
+ *     按分割符原样查找（单字符分割符按字符查找），不使用正则，任意分割符（如“.”、“|”、“||”）都按字面量处理<p>
+ *     每个分割符只创建一次；逐个分割出的代码按对照表转义后直接写入同一个拼接结果，转义后为空的值连同其分割符一起跳过<p>
+ *     多选值属性的映射属性可以是{@link String}（拼接结果）、{@code String[]}或{@link List}（转义后的各个值）
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 22:30
+ */
+public final class SplitTokenizer {
+
+    /** 默认分割符 */
+    public static final String DEFAULT_DELIMITER = ",";
+
+    /** 分割符 → 分割器 */
+    private static final ConcurrentMap<String, SplitTokenizer> TOKENIZERS = new ConcurrentHashMap<>();
+
+    /** 分割符 */
+    private final String delimiter;
+
+    /** 单字符分割符（多字符时不使用） */
+    private final char single;
+
+    private SplitTokenizer(String delimiter) {
+        this.delimiter = delimiter;
+        this.single = delimiter.length() == 1 ? delimiter.charAt(0) : 0;
+    }
+
+    /**
+     * 获取分割器
+     * @param delimiter 分割符（为空时使用逗号）
+     * @return SplitTokenizer
+     * @author Hao.
+     * @since 2026/10/17 22:30
+     */
+    public static SplitTokenizer of(String delimiter) {
+        final String key = StringUtils.isEmpty(delimiter) ? DEFAULT_DELIMITER : delimiter;
+        return TOKENIZERS.computeIfAbsent(key, SplitTokenizer::new);
+    }
+
+    /**
+     * 映射属性能否接收多选值的转换结果
+     * @param type 映射属性的类型
+     * @return String、String[]，或可由{@link ArrayList}赋值的集合类型（List、Collection、Iterable）
+     * @author Hao.
+     * @since 2026/10/17 22:30
+     */
+    public static boolean supports(Class<?> type) {
+        return type == String.class || type == String[].class || (type.isInterface() && type.isAssignableFrom(ArrayList.class));
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * 按映射属性的类型转义多选值
+     * @param data 多选值
+     * @param table 代码 → 值（反转时为 值 → 代码）的对照表，未匹配时保留原值
+     * @param type 映射属性的类型（见{@link SplitTokenizer#supports}）
+     * @return String、String[]或List
+     * @author Hao.
+     * @since 2026/10/17 22:30
+     */
+    public Object convert(String data, Map<String, String> table, Class<?> type) {
+        if (type == String[].class) {
+            return array(data, table);
+        }
+        if (type != String.class && type.isAssignableFrom(ArrayList.class)) {
+            return list(data, table);
+        }
+        return join(data, table);
+    }
+
+    /**
+     * 转义多选值
+     * @param data 多选值
+     * @param table 对照表，未匹配时保留原值
+     * @return 转义后的多选值（以同样的分割符拼接）
+     */
+    public String join(String data, Map<String, String> table) {
+        if (StringUtils.isEmpty(data)) {
+            return "";
+        }
+        final StringBuilder sb = new StringBuilder(data.length() + (data.length() >> 1));
+        final int length = data.length();
+        for (int start = 0, end; start <= length; start = end + delimiter.length()) {
+            end = next(data, start);
+            final String s = resolve(data, start, end, table);
+            if (StringUtils.isEmpty(s)) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(delimiter);
+            }
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 转义多选值
+     * @param data 多选值
+     * @param table 对照表，未匹配时保留原值
+     * @return 转义后的各个值（跳过空值）
+     */
+    public List<String> list(String data, Map<String, String> table) {
+        if (StringUtils.isEmpty(data)) {
+            return new ArrayList<>(0);
+        }
+        final List<String> list = new ArrayList<>();
+        final int length = data.length();
+        for (int start = 0, end; start <= length; start = end + delimiter.length()) {
+            end = next(data, start);
+            final String s = resolve(data, start, end, table);
+            if (StringUtils.isNotEmpty(s)) {
+                list.add(s);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 转义多选值
+     * @param data 多选值
+     * @param table 对照表，未匹配时保留原值
+     * @return 转义后的各个值（跳过空值）
+     */
+    public String[] array(String data, Map<String, String> table) {
+        final List<String> list = list(data, table);
+        return list.toArray(new String[0]);
+    }
+
+    /**
+     * 分割（不转义）
+     * @param data 多选值
+     * @return 各个代码（跳过空值）
+     */
+    public List<String> split(String data) {
+        return list(data, Collections.emptyMap());
+    }
+
+    /**
+     * 下一个分割符的位置，没有时为字符串的长度
+     */
+    private int next(String data, int from) {
+        final int index = single != 0 ? data.indexOf(single, from) : data.indexOf(delimiter, from);
+        return index < 0 ? data.length() : index;
+    }
+
+    private static String resolve(String data, int start, int end, Map<String, String> table) {
+        if (start == end) {
+            return table.get("");
+        }
+        final String code = data.substring(start, end);
+        return table.getOrDefault(code, code);
+    }
+
+    @Override
+    public String toString() {
+        return "SplitTokenizer[" + delimiter + "]";
+    }
+}
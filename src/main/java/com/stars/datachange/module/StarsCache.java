@@ -1,32 +1,68 @@
 package com.stars.datachange.module;
 
 import com.google.common.cache.Cache;
+import com.google.common.cache.CacheLoader;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.stars.datachange.autoconfigure.StarsProperties;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 
-import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
 /**
- * 缓存模块
+ * 缓存模块<p>
+ *     有界缓存，容量、过期由{@code stars.cache}配置；缓存未命中时单飞加载：同一个key并发未命中时只加载一次，其他线程等待同一次加载的结果<p>
+ *     加载中的状态由底层缓存按key持有，与缓存项一起回收，不再另外维护按key的锁<p>
+ *     配置了写入后刷新时，缓存项由{@link CacheRefresher}在后台异步刷新，访问的线程直接拿当前值
  * @author Hao.
  * @version 2.0
  * @since 2025/2/13 15:42
  */
 public class StarsCache extends AbstractValueAdaptingCache {
 
-    private String name;
+    private final String name;
 
-    private final Cache<Object, Object> loadingCache;
+    private final Store store;
 
-    private final Map<String, ReentrantLock> keyLockMap = new ConcurrentHashMap<>();
+    /** 异步刷新（不刷新时为null） */
+    private final CacheRefresher refresher;
 
+    /**
+     * 基于Guava缓存创建
+     * @param name 缓存名称
+     * @param loadingCache Guava缓存
+     */
     public StarsCache(String name, Cache<Object, Object> loadingCache) {
+        this(name, new GuavaStore(loadingCache));
+    }
+
+    /**
+     * 创建缓存
+     * @param name 缓存名称
+     * @param store 底层缓存
+     * @author Hao.
+     * @since 2026/10/17 23:00
+     */
+    StarsCache(String name, Store store) {
+        this(name, store, null);
+    }
+
+    /**
+     * 创建缓存
+     * @param name 缓存名称
+     * @param store 底层缓存
+     * @param refresher 异步刷新（不刷新时为null）
+     * @author Hao.
+     * @since 2026/10/17 23:30
+     */
+    StarsCache(String name, Store store, CacheRefresher refresher) {
         super(StarsProperties.cache.isCacheNullValues());
         this.name = name;
-        this.loadingCache = loadingCache;
+        this.store = store;
+        this.refresher = refresher;
     }
 
     @Override
@@ -39,32 +75,27 @@ public class StarsCache extends AbstractValueAdaptingCache {
         return this;
     }
 
+    /**
+     * 底层缓存（Caffeine或Guava的缓存实例）
+     * @return Object
+     * @author Hao.
+     * @since 2026/10/17 23:00
+     */
+    public Object getStore() {
+        return store.nativeCache();
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T get(Object key, Callable<T> valueLoader) {
-        Object value = lookup(key);
-        if (value != null) {
-            return (T) value;
-        }
-
-        ReentrantLock lock = keyLockMap.get(key.toString());
-        if (lock == null) {
-            lock = new ReentrantLock();
-            keyLockMap.putIfAbsent(key.toString(), lock);
-        }
         try {
-            lock.lock();
-            value = lookup(key);
-            if (value != null) {
-                return (T) value;
-            }
-            value = valueLoader.call();
-            Object storeValue = toStoreValue(value);
-            put(key, storeValue);
-            return (T) value;
-        } catch (Exception e) {
-            throw new ValueRetrievalException(key, valueLoader, e.getCause());
-        } finally {
-            lock.unlock();
+            // 加载结果为null且不缓存空值时，返回null且不写入缓存
+            return (T) fromStoreValue(read(key, store.get(key, () -> {
+                final Object value = valueLoader.call();
+                return Objects.isNull(value) && !isAllowNullValues() ? null : wrap(toStoreValue(value), valueLoader);
+            })));
+        } catch (Exception | ExecutionError e) {
+            throw new ValueRetrievalException(key, valueLoader, cause(e));
         }
     }
 
@@ -74,30 +105,151 @@ public class StarsCache extends AbstractValueAdaptingCache {
             this.evict(key);
             return;
         }
-        loadingCache.put(key, value);
+        store.put(key, wrap(toStoreValue(value), null));
     }
 
     @Override
     public ValueWrapper putIfAbsent(Object key, Object value) {
-        Object prevValue = null;
-        synchronized (key) {
-            loadingCache.put(key, toStoreValue(value));
+        if (!super.isAllowNullValues() && value == null) {
+            return toValueWrapper(lookup(key));
         }
-        return toValueWrapper(prevValue);
+        return toValueWrapper(read(key, store.putIfAbsent(key, wrap(toStoreValue(value), null))));
     }
 
     @Override
     public void evict(Object key) {
-        loadingCache.invalidate(key);
+        store.invalidate(key);
     }
 
     @Override
     public void clear() {
-        loadingCache.invalidateAll();
+        store.invalidateAll();
     }
 
     @Override
     protected Object lookup(Object key) {
-        return loadingCache.getIfPresent(key);
+        return read(key, store.getIfPresent(key));
+    }
+
+    /**
+     * 刷新完成：替换缓存项（缓存项已被移除或替换时不写入）
+     * @param key 缓存的key
+     * @param old 刷新前的缓存项
+     * @param value 重新加载的值
+     */
+    void refreshed(Object key, CacheRefresher.Entry old, Object value) {
+        if (Objects.isNull(value) && !isAllowNullValues()) {
+            store.remove(key, old);
+            return;
+        }
+        store.replace(key, old, wrap(toStoreValue(value), old.getLoader()));
+    }
+
+    private Object wrap(Object storeValue, Callable<?> loader) {
+        return Objects.isNull(refresher) ? storeValue : refresher.wrap(storeValue, loader);
+    }
+
+    private Object read(Object key, Object stored) {
+        return Objects.isNull(refresher) ? stored : refresher.read(this, key, stored);
+    }
+
+    /**
+     * 加载异常的原因（去掉底层缓存的包装）
+     */
+    private static Throwable cause(Throwable e) {
+        while ((e instanceof ExecutionException || e instanceof UncheckedExecutionException
+                || e instanceof ExecutionError || e instanceof CompletionException) && Objects.nonNull(e.getCause())) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    /**
+     * 底层缓存<p>
+     *     {@link Store#get}必须是单飞加载：同一个key并发未命中时只调用一次加载；加载结果为null时不写入缓存
+     * @author Hao.
+     * @since 2026/10/17 23:00
+     */
+    interface Store {
+
+        Object getIfPresent(Object key);
+
+        Object get(Object key, Callable<Object> loader) throws Exception;
+
+        void put(Object key, Object value);
+
+        Object putIfAbsent(Object key, Object value);
+
+        boolean replace(Object key, Object oldValue, Object newValue);
+
+        boolean remove(Object key, Object value);
+
+        void invalidate(Object key);
+
+        void invalidateAll();
+
+        Object nativeCache();
+    }
+
+    /**
+     * 基于Guava缓存（LRU淘汰）
+     */
+    static final class GuavaStore implements Store {
+
+        private final Cache<Object, Object> cache;
+
+        GuavaStore(Cache<Object, Object> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public Object getIfPresent(Object key) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public Object get(Object key, Callable<Object> loader) throws Exception {
+            try {
+                return cache.get(key, loader);
+            } catch (CacheLoader.InvalidCacheLoadException e) {
+                // 加载结果为null
+                return null;
+            }
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            cache.put(key, value);
+        }
+
+        @Override
+        public Object putIfAbsent(Object key, Object value) {
+            return cache.asMap().putIfAbsent(key, value);
+        }
+
+        @Override
+        public boolean replace(Object key, Object oldValue, Object newValue) {
+            return cache.asMap().replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            return cache.asMap().remove(key, value);
+        }
+
+        @Override
+        public void invalidate(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void invalidateAll() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public Object nativeCache() {
+            return cache;
+        }
     }
-}
\ No newline at end of file
+}
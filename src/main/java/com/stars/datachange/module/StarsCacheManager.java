@@ -1,26 +1,32 @@
 package com.stars.datachange.module;
 
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
 import com.stars.datachange.autoconfigure.StarsProperties;
 import com.stars.datachange.utils.StringUtils;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.util.ClassUtils;
 
 import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * 缓存模块管理器
+ * 缓存模块管理器<p>
+ *     底层缓存由{@code stars.cache.provider}指定：AUTO（默认）时classpath中有Caffeine则使用Caffeine（W-TinyLFU淘汰），否则使用Guava（LRU淘汰）<p>
+ *     写入后刷新由{@link CacheRefresher}在专用的有界线程池中异步执行（两种底层缓存一致），刷新时间见{@code stars.cache.refresh-after-write}、{@code stars.cache.refreshes}
  * @author Hao.
  * @version 2.0
  * @since 2025/2/13 15:41
  */
+@Slf4j
 public class StarsCacheManager implements CacheManager {
 
+    /** classpath中是否有Caffeine */
+    private static final boolean CAFFEINE = ClassUtils.isPresent("com.github.benmanes.caffeine.cache.Caffeine", StarsCacheManager.class.getClassLoader());
+
     private final DataDictionary dataDictionary;
 
     public StarsCacheManager(DataDictionary dataDictionary) {
@@ -29,6 +35,9 @@ public class StarsCacheManager implements CacheManager {
 
     private final ConcurrentMap<String, Cache> cacheMap = new ConcurrentHashMap<>();
 
+    /** 异步刷新线程池（首个需要刷新的缓存创建时创建） */
+    private volatile ThreadPoolExecutor refreshExecutor;
+
     @Override
     public Cache getCache(String name) {
         Cache cache = cacheMap.get(name);
@@ -39,11 +48,74 @@ public class StarsCacheManager implements CacheManager {
             return cache;
         }
 
-        cache = new StarsCache(name, guavaCache(name));
+        cache = new StarsCache(name, store(name), refresher(name));
         Cache oldCache = cacheMap.putIfAbsent(name, cache);
         return oldCache == null ? cache : oldCache;
     }
 
+    /**
+     * 创建底层缓存
+     * @param cacheName 缓存名称
+     * @return StarsCache.Store
+     * @author Hao.
+     * @since 2026/10/17 23:00
+     */
+    private StarsCache.Store store(String cacheName) {
+        final StarsProperties.Cache.Provider provider = StarsProperties.cache.getProvider();
+        if (provider == StarsProperties.Cache.Provider.CAFFEINE && !CAFFEINE) {
+            log.warn("Caffeine is not present in the classpath, switched back to guava. cache: {}", cacheName);
+        }
+        if (provider == StarsProperties.Cache.Provider.GUAVA || !CAFFEINE) {
+            return new StarsCache.GuavaStore(guavaCache(cacheName));
+        }
+        final Long cacheNameExpire = StarsProperties.cache.getExpires().get(cacheName);
+        final Integer capacity = StarsProperties.cache.getCapacityMap().get(cacheName);
+        return CaffeineStore.create(cacheNameExpire == null ? StarsProperties.cache.getExpireAfterAccess() : cacheNameExpire,
+                StarsProperties.cache.getExpireAfterWrite(),
+                capacity == null ? StarsProperties.cache.getInitialCapacity() : capacity,
+                StarsProperties.cache.getMaximumSize());
+    }
+
+    /**
+     * 创建缓存的异步刷新<p>
+     *     刷新时间：refreshes中配置的优先，其次是refreshAfterWrite（只针对数据字典缓存stars）
+     * @param cacheName 缓存名称
+     * @return 不刷新时返回null
+     * @author Hao.
+     * @since 2026/10/17 23:30
+     */
+    private CacheRefresher refresher(String cacheName) {
+        final Long refresh = StarsProperties.cache.getRefreshes().get(cacheName);
+        final boolean dictionary = "stars".equals(cacheName);
+        final long interval = refresh != null ? refresh : (dictionary ? StarsProperties.cache.getRefreshAfterWrite() : 0);
+        if (interval <= 0) {
+            return null;
+        }
+        return new CacheRefresher(interval, StarsProperties.cache.getRefreshRetryBackoff(), dictionary ? this::loadDictionary : null, refreshExecutor());
+    }
+
+    private Executor refreshExecutor() {
+        ThreadPoolExecutor executor = this.refreshExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.refreshExecutor;
+                if (executor == null) {
+                    final int poolSize = Math.max(StarsProperties.cache.getRefreshPoolSize(), 1);
+                    final int queueCapacity = Math.max(StarsProperties.cache.getRefreshQueueCapacity(), 1);
+                    final AtomicInteger index = new AtomicInteger();
+                    executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), r -> {
+                        final Thread thread = new Thread(r, "stars-cache-refresh-" + index.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.AbortPolicy());
+                    executor.allowCoreThreadTimeOut(true);
+                    this.refreshExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     public com.google.common.cache.Cache<Object, Object> guavaCache(String cacheName) {
         CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
         long expireAfterAccess = StarsProperties.cache.getExpireAfterAccess();
@@ -74,26 +146,24 @@ public class StarsCacheManager implements CacheManager {
             cacheBuilder.maximumSize(StarsProperties.cache.getMaximumSize());
         }
 
-        if (StarsProperties.cache.getRefreshAfterWrite() > 0) {
-            // 写入后刷新逻辑只针对stars-datachange
-            if ("stars".equals(cacheName)) {
-                return cacheBuilder.refreshAfterWrite(StarsProperties.cache.getRefreshAfterWrite(), TimeUnit.SECONDS)
-                    .build(new CacheLoader<Object, Object>() {
-                        @Override
-                        public Object load(Object key) {
-                            String s = key.toString().replace(DefaultDataDictionary.DICTIONARY_KEY, "");
-                            if (StringUtils.isEmpty(s)) {
-                                s = null;
-                            }
-                            // 这里可以加载数据，例如从数据库查询或API调用
-                            return dataDictionary.dataDictionary(s);
-                        }
-                    });
-            }
-        }
+        // 写入后刷新由CacheRefresher异步执行，见StarsCacheManager#refresher
         return cacheBuilder.build();
     }
 
+    /**
+     * 刷新数据字典缓存（直接查询，不经过缓存）
+     * @param key 缓存的key
+     * @return 数据字典
+     */
+    private Object loadDictionary(Object key) {
+        String s = key.toString().replace(DefaultDataDictionary.DICTIONARY_KEY, "");
+        if (StringUtils.isEmpty(s)) {
+            s = null;
+        }
+        // 这里可以加载数据，例如从数据库查询或API调用
+        return dataDictionary.reload(s);
+    }
+
     @Override
     public Collection<String> getCacheNames() {
         return StarsProperties.cache.getCacheNames();
@@ -1,13 +1,19 @@
 package com.stars.datachange.utils;
 
 import lombok.SneakyThrows;
+import org.springframework.util.CollectionUtils;
 
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Bean工具类
@@ -16,6 +22,17 @@ import java.util.Map;
  */
 public class BeanUtils extends org.springframework.beans.BeanUtils {
 
+    /**
+     * 属性缓存<p>
+     *     每个类只内省一次；基于{@link ClassValue}，不会阻止热部署的类加载器被回收
+     */
+    private static final ClassValue<BeanProperty[]> PROPERTIES = new ClassValue<BeanProperty[]>() {
+        @Override
+        protected BeanProperty[] computeValue(Class<?> type) {
+            return properties(type);
+        }
+    };
+
     /**
      * map转对象
      * @param map map参数
@@ -32,13 +49,8 @@ public class BeanUtils extends org.springframework.beans.BeanUtils {
 
         Object obj = beanClass.newInstance();
 
-        BeanInfo beanInfo = Introspector.getBeanInfo(obj.getClass());
-        PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-        for (PropertyDescriptor property : propertyDescriptors) {
-            Method setter = property.getWriteMethod();
-            if (setter != null) {
-                setter.invoke(obj, map.get(property.getName()));
-            }
+        for (BeanProperty property : PROPERTIES.get(obj.getClass())) {
+            property.set(obj, map.get(property.name));
         }
 
         return obj;
@@ -51,26 +63,105 @@ public class BeanUtils extends org.springframework.beans.BeanUtils {
      * @author zhouhao
      * @since  2021/9/9 15:22
      */
-    @SneakyThrows
     public static Map<String, Object> beanToMap(Object obj) {
         if(obj == null) {
             return null;
         }
 
-        Map<String, Object> map = new HashMap<>();
+        final BeanProperty[] properties = PROPERTIES.get(obj.getClass());
+        Map<String, Object> map = CollectionUtils.newHashMap(properties.length);
+
+        for (BeanProperty property : properties) {
+            map.put(property.name, property.get(obj));
+        }
 
-        BeanInfo beanInfo = Introspector.getBeanInfo(obj.getClass());
-        PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-        for (PropertyDescriptor property : propertyDescriptors) {
-            String key = property.getName();
-            if (key.compareToIgnoreCase("class") == 0) {
+        return map;
+    }
+
+    /**
+     * 内省类的属性
+     * @param beanClass 类
+     * @return 属性（不含class）
+     * @author Hao.
+     * @since 2026/10/17 16:30
+     */
+    @SneakyThrows
+    private static BeanProperty[] properties(Class<?> beanClass) {
+        BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
+        List<BeanProperty> properties = new ArrayList<>();
+        for (PropertyDescriptor property : beanInfo.getPropertyDescriptors()) {
+            if (property.getName().compareToIgnoreCase("class") == 0) {
                 continue;
             }
-            Method getter = property.getReadMethod();
-            Object value = getter!=null ? getter.invoke(obj) : null;
-            map.put(key, value);
+            properties.add(new BeanProperty(property));
         }
+        return properties.toArray(new BeanProperty[0]);
+    }
 
-        return map;
+    /**
+     * Bean属性<p>
+     *     基于{@link MethodHandle}调用getter/setter；无法创建{@link MethodHandle}时，回退到反射
+     * @author Hao.
+     * @since 2026/10/17 16:30
+     */
+    private static final class BeanProperty {
+
+        private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+        private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+        /** 属性名 */
+        private final String name;
+
+        private final Method readMethod;
+
+        private final Method writeMethod;
+
+        /** getter (Object)Object */
+        private final MethodHandle getter;
+
+        /** setter (Object, Object)void */
+        private final MethodHandle setter;
+
+        private BeanProperty(PropertyDescriptor property) {
+            this.name = property.getName();
+            this.readMethod = property.getReadMethod();
+            this.writeMethod = property.getWriteMethod();
+            this.getter = handle(readMethod, GETTER);
+            this.setter = handle(writeMethod, SETTER);
+        }
+
+        /** 读属性：没有getter时返回null */
+        @SneakyThrows
+        private Object get(Object o) {
+            if (Objects.nonNull(getter)) {
+                return (Object) getter.invokeExact(o);
+            }
+            return Objects.isNull(readMethod) ? null : readMethod.invoke(o);
+        }
+
+        /** 写属性：没有setter时跳过 */
+        @SneakyThrows
+        private void set(Object o, Object value) {
+            if (Objects.nonNull(setter)) {
+                setter.invokeExact(o, value);
+                return;
+            }
+            if (Objects.nonNull(writeMethod)) {
+                writeMethod.invoke(o, value);
+            }
+        }
+
+        private static MethodHandle handle(Method method, MethodType type) {
+            if (Objects.isNull(method)) {
+                return null;
+            }
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method).asType(type);
+            } catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
     }
 }
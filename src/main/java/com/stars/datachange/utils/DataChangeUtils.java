@@ -5,17 +5,29 @@ import com.stars.datachange.exception.ChangeModelException;
 import com.stars.datachange.exception.ReentrantChangeModelPropertyException;
 import com.stars.datachange.model.code.BaseCode;
 import com.stars.datachange.model.response.DataChangeContrastResult;
+import com.stars.datachange.model.response.DataDictionaryResult;
+import com.stars.datachange.module.AsyncConversion;
 import com.stars.datachange.module.Compatible;
+import com.stars.datachange.module.ConversionContext;
 import com.stars.datachange.module.DataDictionary;
+import com.stars.datachange.module.DataDictionaryIndex;
+import com.stars.datachange.module.DataDictionaryLoader;
 import com.stars.datachange.module.DefaultCompatible;
+import com.stars.datachange.module.FieldAccessor;
+import com.stars.datachange.module.ParallelConversion;
 import com.stars.datachange.module.Process;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static com.stars.datachange.module.Process.*;
 
@@ -32,12 +44,57 @@ public final class DataChangeUtils {
 
     private static Compatible compatible;
 
-    /** 是否反转（V转K） 默认false */
+    /**
+     * 是否反转（V转K） 默认false<p>
+     *     转换过程不再读取此变量，转换方向通过{@link ConversionContext}显式传递；
+     *     为兼容读取此变量的扩展代码，带rollback参数的同步方法仍在调用线程上设置此变量，转换结束后清除
+     *     （惰性、异步、并行转换的其他线程上不设置）
+     * @deprecated 使用{@link ConversionContext}
+     */
+    @Deprecated
     public static final ThreadLocal<Boolean> ROLLBACK = ThreadLocal.withInitial(() -> false);
 
+    /** 兼容处理器缓存（每个数据模型编译一次；兼容模块变更时重建） */
+    private static ClassValue<Compatible.Handler> compatibleHandlers = compatibleHandlers();
+
     public DataChangeUtils(DataDictionary dataDictionary, Compatible compatible){
         DataChangeUtils.dataDictionary = dataDictionary;
         DataChangeUtils.compatible = compatible;
+        DataChangeUtils.compatibleHandlers = compatibleHandlers();
+    }
+
+    private static ClassValue<Compatible.Handler> compatibleHandlers() {
+        return new ClassValue<Compatible.Handler>() {
+            @Override
+            protected Compatible.Handler computeValue(Class<?> type) {
+                final Compatible compatible = Objects.isNull(DataChangeUtils.compatible) ? DefaultCompatible.get() : DataChangeUtils.compatible;
+                return compatible.compile(type, Process.of(type).getCompatible());
+            }
+        };
+    }
+
+    /**
+     * 在调用线程上设置{@link DataChangeUtils#ROLLBACK}后转换，转换结束后恢复
+     */
+    private static <R> R rollback(boolean rollback, Supplier<R> conversion) {
+        final boolean previous = ROLLBACK.get();
+        ROLLBACK.set(rollback);
+        try {
+            return conversion.get();
+        } finally {
+            if (previous) {
+                ROLLBACK.set(true);
+            } else {
+                ROLLBACK.remove();
+            }
+        }
+    }
+
+    private static void rollback(boolean rollback, Runnable conversion) {
+        rollback(rollback, () -> {
+            conversion.run();
+            return null;
+        });
     }
 
     /**
@@ -66,12 +123,22 @@ public final class DataChangeUtils {
      * @since  2021/9/7 11:14
      */
     public static Map<String, Object> dataChange(Object data, boolean rollback) {
-        try {
-            ROLLBACK.set(rollback);
-            return dataChange(data, Process.create(data.getClass(), new Process(), dataDictionary));
-        } finally {
-            ROLLBACK.remove();
-        }
+        return rollback(rollback, () -> dataChange(data, ConversionContext.of(rollback)));
+    }
+
+    /**
+     * 数据转换
+     * <br>
+     * <br>调用此方法，可以使你的属性code，转换为相对应的文字；
+     * <br>支持多选的属性code、 支持位运算的属性code、支持属性code自定义分隔符转换
+     * @param data 数据集
+     * @param context 数据转换上下文
+     * @return java.util.Map
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static Map<String, Object> dataChange(Object data, ConversionContext context) {
+        return dataChange(data, new Batch(context));
     }
 
     /**
@@ -85,9 +152,7 @@ public final class DataChangeUtils {
      * @since  2021/9/7 11:14
      */
     public static <T> List<Map<String, Object>> dataChange(Collection<T> data) {
-        List<Map<String, Object>> result = new ArrayList<>();
-        data.forEach(o -> result.add(dataChange(o, false)));
-        return result;
+        return dataChange(data, false);
     }
 
     /**
@@ -102,9 +167,36 @@ public final class DataChangeUtils {
      * @since  2021/9/7 11:14
      */
     public static <T> List<Map<String, Object>> dataChange(Collection<T> data, boolean rollback) {
-        List<Map<String, Object>> result = new ArrayList<>();
-        if (!CollectionUtils.isEmpty(data)) {
-            data.forEach(o -> result.add(dataChange(o, rollback)));
+        return rollback(rollback, () -> dataChange(data, ConversionContext.of(rollback)));
+    }
+
+    /**
+     * 数据转换（集合）
+     * <br>
+     * <br>调用此方法，可以使你的属性code，转换为相对应的文字；
+     * <br>支持多选的属性code、 支持位运算的属性code、支持属性code自定义分隔符转换
+     * @param data 数据集
+     * @param context 数据转换上下文
+     * @return java.util.Map
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static <T> List<Map<String, Object>> dataChange(Collection<T> data, ConversionContext context) {
+        if (CollectionUtils.isEmpty(data)) {
+            return new ArrayList<>();
+        }
+        final Batch batch = new Batch(context);
+        // 并行转换：按下标写回，保证顺序
+        if (ParallelConversion.enabled(data.size())) {
+            final Object[] os = data.toArray();
+            final Map<String, Object>[] maps = new Map[os.length];
+            ParallelConversion.forEach(os.length, i -> maps[i] = dataChange(os[i], batch));
+            return new ArrayList<>(Arrays.asList(maps));
+        }
+        List<Map<String, Object>> result = new ArrayList<>(data.size());
+        final Graph graph = new Graph(batch, true);
+        for (T o : data) {
+            result.add(graph.map(o));
         }
         return result;
     }
@@ -161,9 +253,7 @@ public final class DataChangeUtils {
      * @since  2022/4/30 10:35
      */
     public static <T> void dataChangeToBean(Collection<T> data) {
-        if (!CollectionUtils.isEmpty(data)) {
-            data.forEach(o -> dataChangeToBean(o, false));
-        }
+        dataChangeToBean(data, false);
     }
 
     /**
@@ -177,8 +267,33 @@ public final class DataChangeUtils {
      * @since  2022/4/30 10:35
      */
     public static <T> void dataChangeToBean(Collection<T> data, boolean rollback) {
-        if (!CollectionUtils.isEmpty(data)) {
-            data.forEach(o -> dataChangeToBean(o, rollback));
+        rollback(rollback, () -> dataChangeToBean(data, ConversionContext.of(rollback)));
+    }
+
+    /**
+     * 数据转换（转换到原对象）（集合）
+     * <br>
+     * <br>调用此方法，可以使你的属性code，转换为相对应的文字；
+     * <br>支持多选的属性code、 支持位运算的属性code、支持属性code自定义分隔符转换
+     * @param data 数据集
+     * @param context 数据转换上下文
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static <T> void dataChangeToBean(Collection<T> data, ConversionContext context) {
+        if (CollectionUtils.isEmpty(data)) {
+            return;
+        }
+        final Batch batch = new Batch(context);
+        // 并行转换
+        if (ParallelConversion.enabled(data.size())) {
+            final Object[] os = data.toArray();
+            ParallelConversion.forEach(os.length, i -> dataChangeToBean(os[i], batch));
+            return;
+        }
+        final Graph graph = new Graph(batch, false);
+        for (T o : data) {
+            graph.bean(o);
         }
     }
 
@@ -192,11 +307,7 @@ public final class DataChangeUtils {
      * @since  2022/4/30 10:35
      */
     public static <T> void dataChangeToBean(T[] data) {
-        if (Objects.nonNull(data)) {
-            for (T o : data) {
-                dataChangeToBean(o, false);
-            }
-        }
+        dataChangeToBean(data, false);
     }
 
     /**
@@ -211,9 +322,7 @@ public final class DataChangeUtils {
      */
     public static <T> void dataChangeToBean(T[] data, boolean rollback) {
         if (Objects.nonNull(data)) {
-            for (T o : data) {
-                dataChangeToBean(o, rollback);
-            }
+            dataChangeToBean(Arrays.asList(data), rollback);
         }
     }
 
@@ -228,15 +337,361 @@ public final class DataChangeUtils {
      * @since  2022/4/30 10:35
      */
     public static <T> void dataChangeToBean(T data, boolean rollback) {
-        try {
-            ROLLBACK.set(rollback);
-            dataChangeToBean(data, Process.create(data.getClass(), new Process(), dataDictionary));
-        } finally {
-            ROLLBACK.remove();
+        rollback(rollback, () -> dataChangeToBean(data, ConversionContext.of(rollback)));
+    }
+
+    /**
+     * 数据转换（转换到原对象）
+     * <br>
+     * <br>调用此方法，可以使你的属性code，转换为相对应的文字；
+     * <br>支持多选的属性code、 支持位运算的属性code、支持属性code自定义分隔符转换
+     * @param data 数据集
+     * @param context 数据转换上下文
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static <T> void dataChangeToBean(T data, ConversionContext context) {
+        dataChangeToBean(data, new Batch(context));
+    }
+
+    /**
+     * 数据转换（流）
+     * <br>
+     * <br>惰性转换：每条数据在被消费时才转换，不会把整个结果集放到内存中；
+     * <br>处理模型与数据字典在整个流中共用，数据字典只获取一次
+     * @param data 数据流
+     * @return 转换后的数据流
+     * @author Hao.
+     * @since 2026/10/17 19:00
+     */
+    public static <T> Stream<Map<String, Object>> dataChange(Stream<T> data) {
+        return dataChange(data, false);
+    }
+
+    /**
+     * 数据转换（流）
+     * <br>
+     * <br>惰性转换：每条数据在被消费时才转换，不会把整个结果集放到内存中；
+     * <br>处理模型与数据字典在整个流中共用，数据字典只获取一次
+     * @param data 数据流
+     * @param rollback 是否反转（V转K） 默认false
+     * @return 转换后的数据流
+     * @author Hao.
+     * @since 2026/10/17 19:00
+     */
+    public static <T> Stream<Map<String, Object>> dataChange(Stream<T> data, boolean rollback) {
+        return dataChange(data, ConversionContext.of(rollback));
+    }
+
+    /**
+     * 数据转换（流）
+     * <br>
+     * <br>惰性转换：每条数据在被消费时才转换，不会把整个结果集放到内存中；
+     * <br>处理模型与数据字典在整个流中共用，数据字典只获取一次
+     * @param data 数据流
+     * @param context 数据转换上下文
+     * @return 转换后的数据流
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static <T> Stream<Map<String, Object>> dataChange(Stream<T> data, ConversionContext context) {
+        final Batch batch = new Batch(context);
+        return data.map(o -> dataChange(o, batch));
+    }
+
+    /**
+     * 数据转换（迭代器）
+     * <br>
+     * <br>惰性转换：每次调用{@link Iterator#next()}时才转换下一条数据
+     * @param data 数据迭代器
+     * @param rollback 是否反转（V转K） 默认false
+     * @return 转换后的数据迭代器
+     * @author Hao.
+     * @since 2026/10/17 19:00
+     */
+    public static <T> Iterator<Map<String, Object>> dataChange(Iterator<T> data, boolean rollback) {
+        return dataChange(data, ConversionContext.of(rollback));
+    }
+
+    /**
+     * 数据转换（迭代器）
+     * <br>
+     * <br>惰性转换：每次调用{@link Iterator#next()}时才转换下一条数据
+     * @param data 数据迭代器
+     * @param context 数据转换上下文
+     * @return 转换后的数据迭代器
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static <T> Iterator<Map<String, Object>> dataChange(Iterator<T> data, ConversionContext context) {
+        final Batch batch = new Batch(context);
+        return new Iterator<Map<String, Object>>() {
+            @Override
+            public boolean hasNext() {
+                return data.hasNext();
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                return dataChange(data.next(), batch);
+            }
+        };
+    }
+
+    /**
+     * 数据转换（逐条消费）
+     * <br>
+     * <br>逐条转换并交给consumer处理，适用于MyBatis的{@code Cursor}等无法一次加载到内存的结果集（由调用方关闭）
+     * @param data 数据集
+     * @param consumer 转换后的数据的消费者
+     * @author Hao.
+     * @since 2026/10/17 19:00
+     */
+    public static <T> void dataChange(Iterable<T> data, Consumer<Map<String, Object>> consumer) {
+        dataChange(data, false, consumer);
+    }
+
+    /**
+     * 数据转换（逐条消费）
+     * <br>
+     * <br>逐条转换并交给consumer处理，适用于MyBatis的{@code Cursor}等无法一次加载到内存的结果集（由调用方关闭）
+     * @param data 数据集
+     * @param rollback 是否反转（V转K） 默认false
+     * @param consumer 转换后的数据的消费者
+     * @author Hao.
+     * @since 2026/10/17 19:00
+     */
+    public static <T> void dataChange(Iterable<T> data, boolean rollback, Consumer<Map<String, Object>> consumer) {
+        rollback(rollback, () -> dataChange(data.iterator(), rollback).forEachRemaining(consumer));
+    }
+
+    /**
+     * 数据转换（转换到原对象）（流）
+     * <br>
+     * <br>惰性转换：每条数据在被消费时才转换
+     * @param data 数据流
+     * @param rollback 是否反转（V转K） 默认false
+     * @return 转换后的数据流（元素为转换后的原对象）
+     * @author Hao.
+     * @since 2026/10/17 19:00
+     */
+    public static <T> Stream<T> dataChangeToBean(Stream<T> data, boolean rollback) {
+        return dataChangeToBean(data, ConversionContext.of(rollback));
+    }
+
+    /**
+     * 数据转换（转换到原对象）（流）
+     * <br>
+     * <br>惰性转换：每条数据在被消费时才转换
+     * @param data 数据流
+     * @param context 数据转换上下文
+     * @return 转换后的数据流（元素为转换后的原对象）
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static <T> Stream<T> dataChangeToBean(Stream<T> data, ConversionContext context) {
+        final Batch batch = new Batch(context);
+        return data.map(o -> {
+            dataChangeToBean(o, batch);
+            return o;
+        });
+    }
+
+    /**
+     * 数据转换（异步）
+     * <br>
+     * <br>在专用的有界线程池中转换，调用线程不会阻塞在数据字典的加载上；线程池已满时返回异常完成的CompletableFuture
+     * @param data 数据集
+     * @return 转换结果
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static CompletableFuture<Map<String, Object>> dataChangeAsync(Object data) {
+        return dataChangeAsync(data, false);
+    }
+
+    /**
+     * 数据转换（异步）
+     * <br>
+     * <br>在专用的有界线程池中转换，调用线程不会阻塞在数据字典的加载上；线程池已满时返回异常完成的CompletableFuture
+     * @param data 数据集
+     * @param rollback 是否反转（V转K） 默认false
+     * @return 转换结果
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static CompletableFuture<Map<String, Object>> dataChangeAsync(Object data, boolean rollback) {
+        return AsyncConversion.supply(() -> dataChange(data, rollback));
+    }
+
+    /**
+     * 数据转换（集合）（异步）
+     * <br>
+     * <br>在专用的有界线程池中转换，调用线程不会阻塞在数据字典的加载上；线程池已满时返回异常完成的CompletableFuture
+     * @param data 数据集
+     * @return 转换结果
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static <T> CompletableFuture<List<Map<String, Object>>> dataChangeAsync(Collection<T> data) {
+        return dataChangeAsync(data, false);
+    }
+
+    /**
+     * 数据转换（集合）（异步）
+     * <br>
+     * <br>在专用的有界线程池中转换，调用线程不会阻塞在数据字典的加载上；线程池已满时返回异常完成的CompletableFuture
+     * @param data 数据集
+     * @param rollback 是否反转（V转K） 默认false
+     * @return 转换结果
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static <T> CompletableFuture<List<Map<String, Object>>> dataChangeAsync(Collection<T> data, boolean rollback) {
+        return AsyncConversion.supply(() -> dataChange(data, rollback));
+    }
+
+    /**
+     * 数据转换（转换到原对象）（异步）
+     * <br>
+     * <br>在专用的有界线程池中转换，调用线程不会阻塞在数据字典的加载上；线程池已满时返回异常完成的CompletableFuture
+     * @param data 数据集
+     * @return 转换后的原对象
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static <T> CompletableFuture<T> dataChangeToBeanAsync(T data) {
+        return dataChangeToBeanAsync(data, false);
+    }
+
+    /**
+     * 数据转换（转换到原对象）（异步）
+     * <br>
+     * <br>在专用的有界线程池中转换，调用线程不会阻塞在数据字典的加载上；线程池已满时返回异常完成的CompletableFuture
+     * @param data 数据集
+     * @param rollback 是否反转（V转K） 默认false
+     * @return 转换后的原对象
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static <T> CompletableFuture<T> dataChangeToBeanAsync(T data, boolean rollback) {
+        return AsyncConversion.supply(() -> {
+            dataChangeToBean(data, rollback);
+            return data;
+        });
+    }
+
+    /**
+     * 数据转换（转换到原对象）（集合）（异步）
+     * <br>
+     * <br>在专用的有界线程池中转换，调用线程不会阻塞在数据字典的加载上；线程池已满时返回异常完成的CompletableFuture
+     * @param data 数据集
+     * @return 转换后的原集合
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static <T, C extends Collection<T>> CompletableFuture<C> dataChangeToBeanAsync(C data) {
+        return dataChangeToBeanAsync(data, false);
+    }
+
+    /**
+     * 数据转换（转换到原对象）（集合）（异步）
+     * <br>
+     * <br>在专用的有界线程池中转换，调用线程不会阻塞在数据字典的加载上；线程池已满时返回异常完成的CompletableFuture
+     * @param data 数据集
+     * @param rollback 是否反转（V转K） 默认false
+     * @return 转换后的原集合
+     * @author Hao.
+     * @since 2026/10/17 21:00
+     */
+    public static <T, C extends Collection<T>> CompletableFuture<C> dataChangeToBeanAsync(C data, boolean rollback) {
+        return AsyncConversion.supply(() -> {
+            dataChangeToBean(data, rollback);
+            return data;
+        });
+    }
+
+    /**
+     * 逐条转换器（转换到原对象）
+     * <br>
+     * <br>同一个转换器转换的所有数据共用处理模型与数据字典，适用于逐条产生数据的场景（如：MyBatis的ResultHandler、Cursor）
+     * @param rollback 是否反转（V转K） 默认false
+     * @return 转换器（线程安全）
+     * @author Hao.
+     * @since 2026/10/17 19:30
+     */
+    public static <T> Consumer<T> beanConverter(boolean rollback) {
+        return beanConverter(ConversionContext.of(rollback));
+    }
+
+    /**
+     * 逐条转换器（转换到原对象）
+     * <br>
+     * <br>同一个转换器转换的所有数据共用处理模型与数据字典，适用于逐条产生数据的场景（如：MyBatis的ResultHandler、Cursor）
+     * @param context 数据转换上下文
+     * @return 转换器（线程安全）
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static <T> Consumer<T> beanConverter(ConversionContext context) {
+        final Batch batch = new Batch(context);
+        return o -> dataChangeToBean(o, batch);
+    }
+
+    /**
+     * 逐条转换器（转换到原对象）（预先加载数据字典）
+     * <br>
+     * <br>创建时加载数据模型（含重入属性）需要的数据字典（会阻塞，可在专用线程上创建），逐条转换时不再加载
+     * @param dataClass 数据模型
+     * @param rollback 是否反转（V转K） 默认false
+     * @return 转换器（线程安全）
+     * @author Hao.
+     * @since 2026/10/17 21:30
+     */
+    public static <T> Consumer<T> beanConverter(Class<?> dataClass, boolean rollback) {
+        return beanConverter(dataClass, ConversionContext.of(rollback));
+    }
+
+    /**
+     * 逐条转换器（转换到原对象）（预先加载数据字典）
+     * <br>
+     * <br>创建时加载数据模型（含重入属性）需要的数据字典（会阻塞，可在专用线程上创建），逐条转换时不再加载
+     * @param dataClass 数据模型
+     * @param context 数据转换上下文
+     * @return 转换器（线程安全）
+     * @author Hao.
+     * @since 2026/10/17 22:00
+     */
+    public static <T> Consumer<T> beanConverter(Class<?> dataClass, ConversionContext context) {
+        final Batch batch = new Batch(context);
+        batch.preload(Process.of(dataClass));
+        return o -> dataChangeToBean(o, batch);
+    }
+
+    /**
+     * 转换一条数据（含重入属性时按数据模型图转换）
+     */
+    private static Map<String, Object> dataChange(Object data, Batch batch) {
+        final Process process = Process.of(data.getClass());
+        if (CollectionUtils.isEmpty(process.getReentrantFields())) {
+            return dataChange(data, process, batch.dictionary(process), batch);
         }
+        return new Graph(batch, true).map(data);
     }
 
-    private static Map<String, Object> dataChange(Object data, Process process) {
+    /**
+     * 转换一条数据到原对象（含重入属性时按数据模型图转换）
+     */
+    private static void dataChangeToBean(Object data, Batch batch) {
+        final Process process = Process.of(data.getClass());
+        if (CollectionUtils.isEmpty(process.getReentrantFields())) {
+            dataChangeToBean(data, process, batch.dictionary(process), batch);
+            return;
+        }
+        new Graph(batch, false).bean(data);
+    }
+
+    private static Map<String, Object> dataChange(Object data, Process process, DataDictionaryIndex dictionary, Batch batch) {
         final Class<?> dataClass = data.getClass();
 
         Map<String, Object> result = BeanUtils.beanToMap(data);
@@ -244,10 +699,7 @@ public final class DataChangeUtils {
             return new HashMap<>();
         }
 
-        if (Objects.isNull(compatible)) {
-            compatible = DefaultCompatible.get();
-        }
-        compatible.run(dataClass, result, process.getCompatible());
+        compatibleHandlers.get(dataClass).apply(result, batch.context);
 
         for (String key : result.keySet()) {
             if(Objects.isNull(result.get(key))){
@@ -258,46 +710,9 @@ public final class DataChangeUtils {
                 continue;
             }
 
-            // 重入逻辑
+            // 重入属性由Graph处理
             if (process.isReentrant(key)) {
-                final Object keyO = result.get(key);
-                final Class<?> type = keyO.getClass();
-                // 校验数据类型（目前只允许：对象数组、单列结合、对象）
-                // 数组
-                if (type.isArray()) {
-                    final Object[] os = (Object[]) keyO;
-                    List<Map<String, Object>> osMaps = new ArrayList<>();
-                    Process process_ = null;
-                    for (Object o : os) {
-                        if (Objects.isNull(process_)) {
-                            process_ = Process.create(o.getClass(), new Process(), dataDictionary);
-                        }
-                        osMaps.add(dataChange(o, process_));
-                    }
-                    result.put(key, osMaps);
-                    continue;
-                }
-                // 单列集合
-                if (Collection.class.isAssignableFrom(type)) {
-                    final Collection<?> os = (Collection<?>) keyO;
-                    List<Map<String, Object>> osMaps = new ArrayList<>();
-                    Process process_ = null;
-                    for (Object o : os) {
-                        if (Objects.isNull(process_)) {
-                            process_ = Process.create(o.getClass(), new Process(), dataDictionary);
-                        }
-                        osMaps.add(dataChange(o, process_));
-                    }
-                    result.put(key, osMaps);
-                    continue;
-                }
-                // 对象
-                if (type.isAnnotationPresent(ChangeModel.class)) {
-                    result.put(key, dataChange(keyO, Process.create(keyO.getClass(), new Process(), dataDictionary)));
-                    continue;
-                }
-                // 其他数据类型
-                throw new ReentrantChangeModelPropertyException(String.format("Misused @ReentrantChangeModelProperty, from attributes %s. @ReentrantChangeModelProperty are use only allowed on properties such as array, java.util.Collection, custom class, etc. by @ReentrantChangeModelProperty the properties of the markings, need to mark @ChangeModel on the corresponding data model.", key));
+                continue;
             }
 
             // 数据转换注解仅作为标识，跳过数据转换逻辑
@@ -310,15 +725,11 @@ public final class DataChangeUtils {
 
             // 位运算转换
             if(process.isBitOperation(key)){
-                if (ROLLBACK.get()) {
-                    log.warn("The value of bit operations does not support inversion!");
-                    continue;
-                }
                 if (process.getSource().equals(ChangeModel.Source.ENUM)) {
-                    result.put(key, splitConversion(process.getModelCode(), keyAlias, bitOperation(result.get(key))));
+                    result.put(key, bitConversion(process.getModelCode(), keyAlias, result.get(key), batch.rollback));
                 }
                 if (process.getSource().equals(ChangeModel.Source.DB)) {
-                    result.put(key, splitConversion(process.getDictionaryResult(), keyAlias, bitOperation(result.get(key))));
+                    result.put(key, bitConversion(dictionary, keyAlias, result.get(key), batch.rollback));
                 }
                 continue;
             }
@@ -326,10 +737,10 @@ public final class DataChangeUtils {
             // 分割转换
             if(process.isSplit(key)){
                 if (process.getSource().equals(ChangeModel.Source.ENUM)) {
-                    result.put(key, splitConversion(process.getModelCode(), keyAlias, result.get(key).toString(), process.getSplitDelimiter().get(key)));
+                    result.put(key, splitConversion(process.getModelCode(), keyAlias, result.get(key).toString(), process.splitTokenizer(key), batch.rollback, String.class));
                 }
                 if (process.getSource().equals(ChangeModel.Source.DB)) {
-                    result.put(key, splitConversion(process.getDictionaryResult(), keyAlias, result.get(key).toString(), process.getSplitDelimiter().get(key)));
+                    result.put(key, splitConversion(dictionary, keyAlias, result.get(key).toString(), process.splitTokenizer(key), batch.rollback, String.class));
                 }
                 continue;
             }
@@ -337,11 +748,11 @@ public final class DataChangeUtils {
             // 转换
             {
                 if (process.getSource().equals(ChangeModel.Source.ENUM)) {
-                    String o = ROLLBACK.get() ? BaseCode.key(process.getModelCode(), keyAlias, result.get(key).toString()) : BaseCode.value(process.getModelCode(), keyAlias, result.get(key).toString());
+                    String o = batch.rollback ? BaseCode.key(process.getModelCode(), keyAlias, result.get(key).toString()) : BaseCode.value(process.getModelCode(), keyAlias, result.get(key).toString());
                     result.put(key, o);
                 }
                 if (process.getSource().equals(ChangeModel.Source.DB)) {
-                    result.put(key, getValue(process.getDictionaryResult(), keyAlias, result.get(key).toString()));
+                    result.put(key, getValue(dictionary, keyAlias, result.get(key).toString(), batch.rollback));
                 }
                 continue;
             }
@@ -350,18 +761,18 @@ public final class DataChangeUtils {
         return result;
     }
 
-    @SneakyThrows
-    private static <T> void dataChangeToBean(T data, Process process) {
-        final Class<?> dataClass = data.getClass();
+    private static <T> void dataChangeToBean(T data, Process process, DataDictionaryIndex dictionary, Batch batch) {
+        // 编译转换引擎
+        if (Objects.nonNull(process.getConverter())) {
+            process.getConverter().convert(data, dictionary, batch.rollback);
+            return;
+        }
 
-        final List<Field> fields = getFields(dataClass, new ArrayList<>());
-        for(Field field : fields){
-            if(!field.isAccessible()){
-                field.setAccessible(true);
-            }
+        for(FieldAccessor accessor : process.getAccessors().values()){
+            final Field field = accessor.getField();
 
             String name = field.getName();
-            Object value = field.get(data);
+            Object value = accessor.get(data);
 
             if(Objects.isNull(value)){
                 continue;
@@ -371,41 +782,9 @@ public final class DataChangeUtils {
                 continue;
             }
 
-            // 重入逻辑
+            // 重入属性由Graph处理
             if (process.isReentrant(name)) {
-                final Class<?> type = field.getType();
-                // 校验数据类型（目前只允许：对象数组、单列结合、对象）
-                // 数组
-                if (type.isArray()) {
-                    final Object[] os = (Object[]) value;
-                    Process process_ = null;
-                    for (Object o : os) {
-                        if (Objects.isNull(process_)) {
-                            process_ = Process.create(o.getClass(), new Process(), dataDictionary);
-                        }
-                        dataChangeToBean(o, process_);
-                    }
-                    continue;
-                }
-                // 单列集合
-                if (Collection.class.isAssignableFrom(type)) {
-                    final Collection<?> os = (Collection<?>) value;
-                    Process process_ = null;
-                    for (Object o : os) {
-                        if (Objects.isNull(process_)) {
-                            process_ = Process.create(o.getClass(), new Process(), dataDictionary);
-                        }
-                        dataChangeToBean(o, process_);
-                    }
-                    continue;
-                }
-                // 对象
-                if (type.isAnnotationPresent(ChangeModel.class)) {
-                    dataChangeToBean(value, Process.create(value.getClass(), new Process(), dataDictionary));
-                    continue;
-                }
-                // 其他数据类型
-                throw new ReentrantChangeModelPropertyException(String.format("Misused @ReentrantChangeModelProperty, from attributes %s. @ReentrantChangeModelProperty are use only allowed on properties such as array, java.util.Collection, custom class, etc. by @ReentrantChangeModelProperty the properties of the markings, need to mark @ChangeModel on the corresponding data model.", name));
+                continue;
             }
 
             // 数据转换注解仅作为标识，跳过数据转换逻辑
@@ -414,23 +793,19 @@ public final class DataChangeUtils {
             }
 
             // 映射后的字段
-            Field mappedField = getMappedField(process, dataClass, field);
-            if (Objects.isNull(mappedField)) continue;
+            final FieldAccessor mapped = process.getTargets().get(field);
+            if (Objects.isNull(mapped)) continue;
 
             // 字段别名
             String alias = StringUtils.isEmpty(process.getAlias().get(name)) ? name : process.getAlias().get(name);
 
             // 位运算转换
             if(process.isBitOperation(name)){
-                if (ROLLBACK.get()) {
-                    log.warn("The value of bit operations does not support inversion!");
-                    continue;
-                }
                 if (process.getSource().equals(ChangeModel.Source.ENUM)) {
-                    mappedField.set(data, splitConversion(process.getModelCode(), alias, bitOperation(value)));
+                    mapped.set(data, bitConversion(process.getModelCode(), alias, value, batch.rollback));
                 }
                 if (process.getSource().equals(ChangeModel.Source.DB)) {
-                    mappedField.set(data, splitConversion(process.getDictionaryResult(), alias, bitOperation(value)));
+                    mapped.set(data, bitConversion(dictionary, alias, value, batch.rollback));
                 }
                 continue;
             }
@@ -438,10 +813,10 @@ public final class DataChangeUtils {
             // 分割转换
             if(process.isSplit(name)){
                 if (process.getSource().equals(ChangeModel.Source.ENUM)) {
-                    mappedField.set(data, splitConversion(process.getModelCode(), alias, value.toString(), process.getSplitDelimiter().get(name)));
+                    mapped.set(data, splitConversion(process.getModelCode(), alias, value.toString(), process.splitTokenizer(name), batch.rollback, mapped.getField().getType()));
                 }
                 if (process.getSource().equals(ChangeModel.Source.DB)) {
-                    mappedField.set(data, splitConversion(process.getDictionaryResult(), alias, value.toString(), process.getSplitDelimiter().get(name)));
+                    mapped.set(data, splitConversion(dictionary, alias, value.toString(), process.splitTokenizer(name), batch.rollback, mapped.getField().getType()));
                 }
                 continue;
             }
@@ -449,11 +824,11 @@ public final class DataChangeUtils {
             // 转换
             {
                 if (process.getSource().equals(ChangeModel.Source.ENUM)) {
-                    final String o = ROLLBACK.get() ? BaseCode.key(process.getModelCode(), alias, value.toString()) : BaseCode.value(process.getModelCode(), alias, value.toString());
-                    mappedField.set(data, o);
+                    final String o = batch.rollback ? BaseCode.key(process.getModelCode(), alias, value.toString()) : BaseCode.value(process.getModelCode(), alias, value.toString());
+                    mapped.set(data, o);
                 }
                 if (process.getSource().equals(ChangeModel.Source.DB)) {
-                    mappedField.set(data, getValue(process.getDictionaryResult(), alias, value.toString()));
+                    mapped.set(data, getValue(dictionary, alias, value.toString(), batch.rollback));
                 }
                 continue;
             }
@@ -471,30 +846,344 @@ public final class DataChangeUtils {
     public static List<DataChangeContrastResult> dataContrast(Object oldData, Object newData) {
         List<DataChangeContrastResult> result = new ArrayList<>();
 
-        final Process process = Process.create(oldData.getClass(), new Process(), dataDictionary);
+        final Process process = Process.of(oldData.getClass());
 
         if (process.getChangeModel().quick()) {
             throw new ChangeModelException("This function does not support shortcut mode temporarily!");
         }
 
-        try {
-            ROLLBACK.set(false);
-            Map<String, Object> oldData_ = dataChange(oldData, process);
-            Map<String, Object> newData_ = dataChange(newData, process);
+        final Batch batch = new Batch(ConversionContext.DEFAULT);
+        final DataDictionaryIndex dictionary = batch.dictionary(process);
+        Map<String, Object> oldData_ = dataChange(oldData, process, dictionary, batch);
+        Map<String, Object> newData_ = dataChange(newData, process, dictionary, batch);
+
+        oldData_.keySet().forEach(key -> {
+            if(process.isSkipComparison(key)) {
+                return;
+            }
+            Object old_ = oldData_.get(key);
+            Object new_ = newData_.get(key);
+            if (!Objects.equals(old_, new_)) {
+                result.add(DataChangeContrastResult.builder().name(process.getChineseEnglish().get(key)).oldData(old_).newData(new_).build());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 数据模型图的转换（处理重入属性）<p>
+     *     使用显式的工作栈代替递归，层级再深也不会栈溢出；每个数据按实际类型获取处理模型（缓存）；
+     *     同一个实例（按引用）只转换一次：共享的实例复用同一个转换结果，循环引用不会重复进入<p>
+     *     转换为Map时深度优先：重入属性指向转换路径上尚未转换完的数据（循环引用，如{@code order.lines[i].order}）时，该处的值为null，
+     *     转换结果集不含环，可直接序列化、toString、hashCode；转换到原对象时不修改引用关系<p>
+     *     重入属性支持：对象数组、单列集合、Map（转换值）、Optional、数据模型
+     * @author Hao.
+     * @since 2026/10/17 20:30
+     */
+    private static final class Graph {
+
+        private final Batch batch;
+
+        /** 是否转换为Map（否则转换到原对象） */
+        private final boolean toMap;
+
+        /** 已转换的数据 → 数据转换结果集（按引用；转换到原对象时为null） */
+        private final Map<Object, Map<String, Object>> converted = new IdentityHashMap<>();
+
+        /** 转换为Map时，转换路径上尚未转换完重入属性的数据（按引用） */
+        private final Set<Object> active = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /** 转换为Map时的工作栈：每个数据待填入的重入属性 */
+        private final Deque<Frame> frames = new ArrayDeque<>();
 
-            oldData_.keySet().forEach(key -> {
-                if(process.isSkipComparison(key)) {
-                    return;
+        /** 转换到原对象时，待处理重入属性的数据 */
+        private final Deque<Object> pending = new ArrayDeque<>();
+
+        private Graph(Batch batch, boolean toMap) {
+            this.batch = batch;
+            this.toMap = toMap;
+        }
+
+        private Map<String, Object> map(Object data) {
+            final Map<String, Object> converted = this.converted.get(data);
+            if (Objects.nonNull(converted)) {
+                return converted;
+            }
+            final Map<String, Object> result = open(data);
+            while (!frames.isEmpty()) {
+                final Frame frame = frames.peek();
+                if (!frame.slots.hasNext()) {
+                    frames.pop();
+                    active.remove(frame.data);
+                    continue;
+                }
+                final Slot slot = frame.slots.next();
+                final Map<String, Object> map = this.converted.get(slot.data);
+                if (Objects.isNull(map)) {
+                    slot.setter.accept(open(slot.data));
+                } else {
+                    slot.setter.accept(active.contains(slot.data) ? null : map);
+                }
+            }
+            return result;
+        }
+
+        private void bean(Object data) {
+            visit(data);
+            while (!pending.isEmpty()) {
+                final Object o = pending.pop();
+                final Process process = Process.of(o.getClass());
+                for (FieldAccessor accessor : process.getAccessors().values()) {
+                    final String name = accessor.getField().getName();
+                    if (!process.isReentrant(name)) {
+                        continue;
+                    }
+                    final Object value = accessor.get(o);
+                    if (Objects.nonNull(value)) {
+                        reentrant(name, value, true);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 转换数据模型（不含重入属性），展开重入属性的值，其中的数据模型放入工作栈待转换
+         * @return 数据转换结果集
+         */
+        private Map<String, Object> open(Object data) {
+            final Process process = Process.of(data.getClass());
+            final Map<String, Object> result = dataChange(data, process, batch.dictionary(process), batch);
+            converted.put(data, result);
+            if (CollectionUtils.isEmpty(process.getReentrantFields())) {
+                return result;
+            }
+            final List<Slot> slots = new ArrayList<>();
+            for (String key : process.getReentrantFields()) {
+                final Object value = result.get(key);
+                if (Objects.nonNull(value)) {
+                    result.put(key, expand(key, value, true, o -> result.put(key, o), slots));
+                }
+            }
+            if (!slots.isEmpty()) {
+                active.add(data);
+                frames.push(new Frame(data, slots.iterator()));
+            }
+            return result;
+        }
+
+        /**
+         * 展开重入属性的值：数组、集合转换为List，Map转换为LinkedHashMap，Optional展开为其中的元素；
+         * 其中的数据模型先占位为null，由工作栈转换后通过setter填入
+         * @param key 属性名
+         * @param value 属性值（或其中的元素）
+         * @param field 是否为属性值本身
+         * @param setter 填入数据模型的转换结果
+         * @param slots 待转换的数据模型
+         * @return 展开后的值
+         */
+        private Object expand(String key, Object value, boolean field, Consumer<Object> setter, List<Slot> slots) {
+            if (value instanceof Object[]) {
+                return elements(key, Arrays.asList((Object[]) value), slots);
+            }
+            if (value instanceof Collection) {
+                return elements(key, (Collection<?>) value, slots);
+            }
+            if (value instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) value;
+                final Map<Object, Object> result = CollectionUtils.newLinkedHashMap(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    final Object k = entry.getKey();
+                    result.put(k, Objects.isNull(entry.getValue()) ? null : expand(key, entry.getValue(), false, o -> result.put(k, o), slots));
                 }
-                Object old_ = oldData_.get(key);
-                Object new_ = newData_.get(key);
-                if (!Objects.equals(old_, new_)) {
-                    result.add(DataChangeContrastResult.builder().name(process.getChineseEnglish().get(key)).oldData(old_).newData(new_).build());
+                return result;
+            }
+            if (value instanceof Optional) {
+                final Optional<?> optional = (Optional<?>) value;
+                return optional.isPresent() ? expand(key, optional.get(), false, setter, slots) : null;
+            }
+            check(key, value, field);
+            slots.add(new Slot(value, setter));
+            return null;
+        }
+
+        private List<Object> elements(String key, Collection<?> os, List<Slot> slots) {
+            final List<Object> result = new ArrayList<>(os.size());
+            for (Object o : os) {
+                final int index = result.size();
+                result.add(null);
+                if (Objects.nonNull(o)) {
+                    result.set(index, expand(key, o, false, r -> result.set(index, r), slots));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 转换数据模型到原对象（不含重入属性），有重入属性时放入工作栈
+         */
+        private void visit(Object data) {
+            if (converted.containsKey(data)) {
+                return;
+            }
+            converted.put(data, null);
+            final Process process = Process.of(data.getClass());
+            dataChangeToBean(data, process, batch.dictionary(process), batch);
+            if (!CollectionUtils.isEmpty(process.getReentrantFields())) {
+                pending.push(data);
+            }
+        }
+
+        /**
+         * 转换到原对象时，转换重入属性的值：数组、集合、Map、Optional逐个展开其中的元素
+         * @param key 属性名
+         * @param value 属性值（或其中的元素）
+         * @param field 是否为属性值本身
+         */
+        private void reentrant(String key, Object value, boolean field) {
+            if (value instanceof Object[]) {
+                value = Arrays.asList((Object[]) value);
+            }
+            if (value instanceof Collection) {
+                for (Object o : (Collection<?>) value) {
+                    if (Objects.nonNull(o)) {
+                        reentrant(key, o, false);
+                    }
+                }
+                return;
+            }
+            if (value instanceof Map) {
+                for (Object o : ((Map<?, ?>) value).values()) {
+                    if (Objects.nonNull(o)) {
+                        reentrant(key, o, false);
+                    }
+                }
+                return;
+            }
+            if (value instanceof Optional) {
+                ((Optional<?>) value).ifPresent(o -> reentrant(key, o, false));
+                return;
+            }
+            check(key, value, field);
+            visit(value);
+        }
+
+        /**
+         * 属性值本身只能是数组、集合、Map、Optional或数据模型
+         */
+        private static void check(String key, Object value, boolean field) {
+            if (field && !value.getClass().isAnnotationPresent(ChangeModel.class)) {
+                throw new ReentrantChangeModelPropertyException(String.format("Misused @ReentrantChangeModelProperty, from attributes %s. @ReentrantChangeModelProperty are use only allowed on properties such as array, java.util.Collection, java.util.Map, java.util.Optional, custom class, etc. by @ReentrantChangeModelProperty the properties of the markings, need to mark @ChangeModel on the corresponding data model.", key));
+            }
+        }
+
+        /**
+         * 数据及其待填入的重入属性
+         */
+        private static final class Frame {
+
+            private final Object data;
+
+            private final Iterator<Slot> slots;
+
+            private Frame(Object data, Iterator<Slot> slots) {
+                this.data = data;
+                this.slots = slots;
+            }
+        }
+
+        /**
+         * 待转换的数据模型及其转换结果的填入位置
+         */
+        private static final class Slot {
+
+            private final Object data;
+
+            private final Consumer<Object> setter;
+
+            private Slot(Object data, Consumer<Object> setter) {
+                this.data = data;
+                this.setter = setter;
+            }
+        }
+    }
+
+    /**
+     * 一次转换（单个对象或整个集合）的上下文<p>
+     *     显式传递数据转换上下文，不依赖ThreadLocal（并行转换、异步转换的工作线程共用）；
+     *     每个数据字典只获取一次，集合中的元素、重入的属性、并行转换的工作线程共用；
+     *     首次获取数据字典时，数据模型（含重入属性）需要的其他数据字典一并通过{@link DataDictionaryLoader#loadAll}加载
+     * @author Hao.
+     * @since 2026/10/17 18:00
+     */
+    private static final class Batch {
+
+        /** 数据转换上下文 */
+        private final ConversionContext context;
+
+        /** 是否反转（V转K） */
+        private final boolean rollback;
+
+        /** 数据字典名称 → 数据字典索引 */
+        private final ConcurrentMap<String, DataDictionaryIndex> dictionaries = new ConcurrentHashMap<>();
+
+        private Batch(ConversionContext context) {
+            this.context = Objects.isNull(context) ? ConversionContext.DEFAULT : context;
+            this.rollback = this.context.isRollback();
+        }
+
+        private DataDictionaryIndex dictionary(Process process) {
+            if (!ChangeModel.Source.DB.equals(process.getSource())) {
+                return null;
+            }
+            final String name = process.getChangeModel().modelName();
+            final DataDictionaryIndex dictionary = dictionaries.get(name);
+            if (Objects.nonNull(dictionary)) {
+                return dictionary;
+            }
+            prefetch(process.getDictionaryNames(), 2);
+            return dictionaries.computeIfAbsent(name, k -> process.dictionary(dataDictionary));
+        }
+
+        /**
+         * 预先加载数据模型（含重入属性）需要的数据字典
+         * @param process 数据转换处理模型
+         */
+        private void preload(Process process) {
+            prefetch(process.getDictionaryNames(), 1);
+            dictionary(process);
+        }
+
+        /**
+         * 一次加载多个数据字典（未加载的数据字典少于min个时不处理）<p>
+         *     加载失败或数据字典为空时不处理，由{@link Process#dictionary(DataDictionary)}逐个加载并抛出对应的异常
+         * @param names 数据字典名称
+         * @param min 最少加载的个数
+         */
+        private synchronized void prefetch(Set<String> names, int min) {
+            final List<String> keys = new ArrayList<>(names.size());
+            for (String name : names) {
+                if (!dictionaries.containsKey(name)) {
+                    keys.add(name);
+                }
+            }
+            if (keys.size() < min) {
+                return;
+            }
+            final Map<String, Set<DataDictionaryResult>> results;
+            try {
+                results = DataDictionaryLoader.loadAll(dataDictionary, keys);
+            } catch (Exception e) {
+                log.warn("Failed to load data dictionaries {}: {}", keys, e.toString());
+                return;
+            }
+            if (Objects.isNull(results)) {
+                return;
+            }
+            results.forEach((name, result) -> {
+                if (!CollectionUtils.isEmpty(result)) {
+                    dictionaries.putIfAbsent(name, DataDictionaryIndex.of(result));
                 }
             });
-        } finally {
-            ROLLBACK.remove();
         }
-        return result;
     }
 }
@@ -10,6 +10,9 @@ import java.util.regex.Pattern;
  */
 public class RegexUtils {
 
+	/** 数字 */
+	private static final Pattern NUMBER = Pattern.compile("^[-\\+]?[\\d]*$");
+
 	public static Pattern getPattern(String regex){
 		return Pattern.compile(regex);
 	}
@@ -22,7 +25,6 @@ public class RegexUtils {
 	 * @return boolean
 	 */
 	public static boolean isNumber(String str) {
-		Pattern pattern = getPattern("^[-\\+]?[\\d]*$");
-		return pattern.matcher(str).matches();
+		return NUMBER.matcher(str).matches();
 	}
 }
\ No newline at end of file
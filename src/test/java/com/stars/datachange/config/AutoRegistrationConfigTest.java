@@ -0,0 +1,70 @@
+package com.stars.datachange.config;
+
+import com.stars.datachange.module.DataChangeAspect;
+import com.stars.datachange.module.DataChangeInterceptor;
+import com.stars.datachange.module.DataDictionary;
+import com.stars.datachange.module.DictionarySnapshot;
+import com.stars.datachange.module.DictionaryVersionPoller;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.CacheManager;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 自动注册配置：各配置组合下应用上下文能够启动
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class AutoRegistrationConfigTest {
+
+    @Test
+    void startsWithDefaultConfiguration() {
+        StarsContexts.runner().run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasSingleBean(DataChangeAspect.class);
+            assertThat(context).hasSingleBean(DataChangeInterceptor.class);
+            assertThat(context).hasSingleBean(DataDictionary.class);
+            assertThat(context).hasSingleBean(CacheManager.class);
+        });
+    }
+
+    @Test
+    void startsWithVersionPolling() {
+        StarsContexts.runner()
+                .withPropertyValues("stars.cache.open=true", "stars.dictionary.field-version=version")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).hasSingleBean(DictionaryVersionPoller.class);
+                });
+    }
+
+    @Test
+    void startsWithSnapshot(@TempDir Path directory) {
+        StarsContexts.runner()
+                .withPropertyValues("stars.cache.open=true", "stars.dictionary.snapshot-path=" + directory.resolve("dictionary.snapshot"))
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).hasSingleBean(DictionarySnapshot.class);
+                });
+    }
+
+    /**
+     * 不使用数据库时，由应用提供数据字典模块
+     */
+    @Test
+    void startsWithoutDatabase() {
+        StarsContexts.runner()
+                .withPropertyValues("stars.config.db=false")
+                .withBean(DataDictionary.class, () -> key -> Collections.emptySet())
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).hasSingleBean(DataChangeAspect.class);
+                    assertThat(context).doesNotHaveBean(DataChangeInterceptor.class);
+                });
+    }
+}
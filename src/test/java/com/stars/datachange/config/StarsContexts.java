@@ -0,0 +1,47 @@
+package com.stars.datachange.config;
+
+import org.mybatis.spring.boot.autoconfigure.MybatisAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.UUID;
+
+/**
+ * 测试用的应用上下文：与引入stars-datachange的应用相同的自动配置，数据字典表在内存数据库中（见stars-test/schema.sql、data.sql）
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+public final class StarsContexts {
+
+    private StarsContexts() {
+    }
+
+    /**
+     * 默认配置的应用上下文（每次调用使用一个新的内存数据库）
+     * @return ApplicationContextRunner
+     * @author Hao.
+     * @since 2026/10/18 01:00
+     */
+    public static ApplicationContextRunner runner() {
+        return new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(
+                        DataSourceAutoConfiguration.class,
+                        DataSourceTransactionManagerAutoConfiguration.class,
+                        SqlInitializationAutoConfiguration.class,
+                        MybatisAutoConfiguration.class,
+                        AopAutoConfiguration.class,
+                        AutoRegistrationConfig.class))
+                .withPropertyValues(
+                        "stars.config.banner=false",
+                        // 字典表的value列在H2中是关键字
+                        "spring.datasource.url=jdbc:h2:mem:stars-" + UUID.randomUUID() + ";NON_KEYWORDS=VALUE",
+                        "mybatis.mapper-locations=classpath*:stars-mapper/*.xml",
+                        "spring.sql.init.schema-locations=classpath:stars-test/schema.sql",
+                        "spring.sql.init.data-locations=classpath:stars-test/data.sql");
+    }
+}
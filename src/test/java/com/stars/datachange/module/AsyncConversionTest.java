@@ -0,0 +1,93 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.autoconfigure.StarsProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 异步转换
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class AsyncConversionTest {
+
+    private final StarsProperties.Config config = new StarsProperties.Config();
+
+    @BeforeEach
+    void setUp() {
+        new StarsProperties(new StarsProperties.Dictionary(), config, new StarsProperties.Cache());
+        config.setAsyncPoolSize(1);
+        config.setAsyncQueueCapacity(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AsyncConversion.shutdown();
+    }
+
+    @Test
+    void runsOnTheDedicatedPool() throws Exception {
+        final String thread = AsyncConversion.supply(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        assertTrue(thread.startsWith("stars-datachange-async-"), thread);
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        try {
+            // 占满唯一的线程和队列
+            AsyncConversion.supply(() -> {
+                started.countDown();
+                return await(release);
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            AsyncConversion.supply(() -> await(release));
+
+            final CompletableFuture<Boolean> rejected = AsyncConversion.supply(() -> true);
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof RejectedExecutionException, e::toString);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shutdownClosesCurrentAndReplacedPools() throws Exception {
+        AsyncConversion.supply(() -> true).get(5, TimeUnit.SECONDS);
+        // 线程数变更：旧线程池被替换，但不立即关闭
+        config.setAsyncPoolSize(2);
+        AsyncConversion.supply(() -> true).get(5, TimeUnit.SECONDS);
+
+        new ConversionPools().destroy();
+        assertTrue(awaitNoThreads(), "stars-datachange-async threads still alive");
+
+        // 关闭后再次使用时重新创建
+        assertTrue(AsyncConversion.supply(() -> true).get(5, TimeUnit.SECONDS));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean awaitNoThreads() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (Thread.getAllStackTraces().keySet().stream().noneMatch(o -> o.getName().startsWith("stars-datachange-async-"))) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,107 @@
+package com.stars.datachange.module;
+
+import com.google.common.cache.CacheBuilder;
+import com.stars.datachange.autoconfigure.StarsProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.Collections;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 缓存的异步刷新（刷新时间1秒；刷新线程池为调用线程，刷新在读取时同步完成）
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class CacheRefresherTest {
+
+    private final StarsProperties.Cache properties = new StarsProperties.Cache();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        new StarsProperties(new StarsProperties.Dictionary(), new StarsProperties.Config(), properties);
+    }
+
+    @Test
+    void servesStaleValueWhileRefreshing() throws InterruptedException {
+        final StarsCache cache = cache(new CacheRefresher(1, 1, key -> "v" + loads.incrementAndGet(), Runnable::run));
+        cache.put("k", "v0");
+        assertEquals("v0", cache.get("k", String.class));
+        assertEquals(0, loads.get());
+
+        Thread.sleep(1100);
+        // 到达刷新时间：返回当前值，同时刷新
+        assertEquals("v0", cache.get("k", String.class));
+        assertEquals(1, loads.get());
+        assertEquals("v1", cache.get("k", String.class));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void keepsStaleValueAndBacksOffWhenRefreshFails() throws InterruptedException {
+        final StarsCache cache = cache(new CacheRefresher(1, 1, key -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("database is down");
+        }, Runnable::run));
+        cache.put("k", "v0");
+
+        Thread.sleep(1100);
+        assertEquals("v0", cache.get("k", String.class));
+        assertEquals(1, loads.get());
+        // 退避期间不再刷新
+        assertEquals("v0", cache.get("k", String.class));
+        assertEquals(1, loads.get());
+
+        Thread.sleep(1100);
+        assertEquals("v0", cache.get("k", String.class));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void retriesOnNextReadWhenThePoolIsFull() throws InterruptedException {
+        final AtomicInteger submits = new AtomicInteger();
+        final StarsCache cache = cache(new CacheRefresher(1, 1, key -> "v" + loads.incrementAndGet(), task -> {
+            if (submits.incrementAndGet() == 1) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        }));
+        cache.put("k", "v0");
+
+        Thread.sleep(1100);
+        assertEquals("v0", cache.get("k", String.class));
+        assertEquals(0, loads.get());
+        assertEquals("v0", cache.get("k", String.class));
+        assertEquals(1, loads.get());
+        assertEquals("v1", cache.get("k", String.class));
+    }
+
+    /**
+     * stars.cache.refreshes配置的缓存：刷新通过{@code @Cacheable(sync = true)}加载的缓存项
+     */
+    @Test
+    void refreshesConfiguredCacheInTheBackground() throws InterruptedException {
+        properties.setRefreshes(Collections.singletonMap("orders", 1L));
+        final Cache cache = new StarsCacheManager(key -> Collections.emptySet()).getCache("orders");
+        assertEquals("v1", cache.get("k", () -> "v" + loads.incrementAndGet()));
+
+        Thread.sleep(1100);
+        assertEquals("v1", cache.get("k", () -> "unused"));
+        for (int i = 0; i < 100 && !"v2".equals(cache.get("k", String.class)); i++) {
+            Thread.sleep(20);
+        }
+        assertEquals("v2", cache.get("k", String.class));
+        assertEquals(2, loads.get());
+    }
+
+    private static StarsCache cache(CacheRefresher refresher) {
+        return new StarsCache("test", new StarsCache.GuavaStore(CacheBuilder.newBuilder().build()), refresher);
+    }
+}
@@ -0,0 +1,74 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.annotation.ChangeResult;
+import com.stars.datachange.config.StarsContexts;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 基于注解的数据转换：Spring Bean上@ChangeResult方法的各种返回值
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class DataChangeAspectTest {
+
+    @Test
+    void convertsReturnedModels() {
+        StarsContexts.runner().withBean(OrderService.class).run(context -> {
+            final OrderService service = context.getBean(OrderService.class);
+            assertThat(states(service.list())).containsExactly("Paid", "Shipped");
+            assertThat(service.one().getState()).isEqualTo("Paid");
+            assertThat(states(service.future().get(5, TimeUnit.SECONDS))).containsExactly("Paid", "Shipped");
+            assertThat(states(service.flux().collectList().block())).containsExactly("Paid", "Shipped");
+            assertThat(states(service.mono().block())).containsExactly("Paid", "Shipped");
+        });
+    }
+
+    private static List<String> states(List<StarsOrder> orders) {
+        return orders.stream().map(StarsOrder::getState).collect(Collectors.toList());
+    }
+
+    private static StarsOrder order(String state) {
+        final StarsOrder order = new StarsOrder();
+        order.setState(state);
+        return order;
+    }
+
+    static class OrderService {
+
+        @ChangeResult
+        public List<StarsOrder> list() {
+            return Arrays.asList(order("1"), order("2"));
+        }
+
+        @ChangeResult
+        public StarsOrder one() {
+            return order("1");
+        }
+
+        @ChangeResult
+        public CompletableFuture<List<StarsOrder>> future() {
+            return CompletableFuture.supplyAsync(this::list);
+        }
+
+        @ChangeResult
+        public Flux<StarsOrder> flux() {
+            return Flux.just(order("1"), order("2"));
+        }
+
+        @ChangeResult
+        public Mono<List<StarsOrder>> mono() {
+            return Mono.fromSupplier(this::list);
+        }
+    }
+}
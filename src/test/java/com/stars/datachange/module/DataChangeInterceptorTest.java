@@ -0,0 +1,82 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.config.StarsContexts;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.annotation.MapperScan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MyBatis插件的数据转换：每条数据只转换一次（数据字典中'Paid'也是代码，重复转换时变为'Paid again'）
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class DataChangeInterceptorTest {
+
+    @Test
+    void convertsPlainQueryOnceIncludingLocalCacheHits() {
+        StarsContexts.runner().run(context -> {
+            try (SqlSession session = openSession(context.getBean(SqlSessionFactory.class))) {
+                final StarsOrderMapper mapper = session.getMapper(StarsOrderMapper.class);
+                assertThat(states(mapper.findAll())).containsExactly("Paid", "Shipped");
+                // 命中一级缓存：缓存的是转换后的结果，不再转换
+                assertThat(states(mapper.findAll())).containsExactly("Paid", "Shipped");
+                assertThat(states(mapper.findAllWithoutChange())).containsExactly("1", "2");
+            }
+        });
+    }
+
+    @Test
+    void convertsCursorAndResultHandlerQueries() {
+        StarsContexts.runner().run(context -> {
+            try (SqlSession session = openSession(context.getBean(SqlSessionFactory.class))) {
+                final StarsOrderMapper mapper = session.getMapper(StarsOrderMapper.class);
+                final List<StarsOrder> fromCursor = new ArrayList<>();
+                try (Cursor<StarsOrder> cursor = mapper.cursor()) {
+                    cursor.forEach(fromCursor::add);
+                }
+                assertThat(states(fromCursor)).containsExactly("Paid", "Shipped");
+
+                final List<StarsOrder> fromHandler = new ArrayList<>();
+                mapper.handle(o -> fromHandler.add(o.getResultObject()));
+                assertThat(states(fromHandler)).containsExactly("Paid", "Shipped");
+            }
+        });
+    }
+
+    /**
+     * Spring中的Mapper：切面跳过Mapper代理，只由插件转换
+     */
+    @Test
+    void convertsMapperBeanOnlyOnce() {
+        StarsContexts.runner().withUserConfiguration(Mappers.class).run(context -> {
+            final StarsOrderMapper mapper = context.getBean(StarsOrderMapper.class);
+            assertThat(states(mapper.findAll())).containsExactly("Paid", "Shipped");
+            assertThat(states(mapper.findAllWithoutChange())).containsExactly("1", "2");
+        });
+    }
+
+    private static SqlSession openSession(SqlSessionFactory sqlSessionFactory) {
+        if (!sqlSessionFactory.getConfiguration().hasMapper(StarsOrderMapper.class)) {
+            sqlSessionFactory.getConfiguration().addMapper(StarsOrderMapper.class);
+        }
+        return sqlSessionFactory.openSession();
+    }
+
+    private static List<String> states(List<StarsOrder> orders) {
+        return orders.stream().map(StarsOrder::getState).collect(Collectors.toList());
+    }
+
+    @MapperScan(basePackageClasses = StarsOrderMapper.class, annotationClass = Mapper.class)
+    static class Mappers {
+    }
+}
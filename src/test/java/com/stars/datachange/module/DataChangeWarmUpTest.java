@@ -0,0 +1,45 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.config.StarsContexts;
+import com.stars.datachange.utils.DataChangeUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 启动预热：扫描数据模型，一次加载用到的数据字典并放入缓存，转换样本
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class DataChangeWarmUpTest {
+
+    @Test
+    void loadsDictionariesOfScannedModelsIntoTheCache() {
+        StarsContexts.runner()
+                .withPropertyValues(
+                        "stars.cache.open=true",
+                        "stars.config.warm-up=true",
+                        "stars.config.warm-up-packages=com.stars.datachange.module",
+                        "stars.config.warm-up-iterations=5")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    final Cache cache = context.getBean(CacheManager.class).getCache("stars");
+                    assertThat(cache.get(DefaultDataDictionary.DICTIONARY_KEY + "starsOrder")).isNull();
+
+                    context.getBean(DataChangeWarmUp.class).warmUp();
+                    assertThat(cache.get(DefaultDataDictionary.DICTIONARY_KEY + "starsOrder")).isNotNull();
+
+                    // 预热后转换不再查询数据库
+                    new JdbcTemplate(context.getBean(DataSource.class)).update("delete from sys_dictionary");
+                    final StarsOrder order = new StarsOrder();
+                    order.setState("2");
+                    DataChangeUtils.dataChangeToBean(order);
+                    assertThat(order.getState()).isEqualTo("Shipped");
+                });
+    }
+}
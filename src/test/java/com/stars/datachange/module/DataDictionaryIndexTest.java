@@ -0,0 +1,82 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.model.response.DataDictionaryResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 数据字典索引
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class DataDictionaryIndexTest {
+
+    @Test
+    void looksUpBothDirections() {
+        final DataDictionaryIndex index = DataDictionaryIndex.of(dictionary(
+                result("state", "1", "Paid", "2", "Shipped"),
+                result("gender", "1", "Male")));
+
+        final DataDictionaryIndex.Entry state = index.entry("state");
+        assertEquals("Paid", state.value("1"));
+        assertEquals("2", state.code("Shipped"));
+        assertEquals("Shipped", state.change("2", false));
+        assertEquals("1", state.change("Paid", true));
+        assertEquals("Male", index.entry("gender").value("1"));
+
+        // 未匹配时返回原值
+        assertEquals("9", state.value("9"));
+        assertEquals("Unknown", state.code("Unknown"));
+        assertTrue(index.entry("missing").getValues().isEmpty());
+        assertEquals("1", index.entry("missing").value("1"));
+    }
+
+    @Test
+    void keepsTheFirstOfDuplicates() {
+        final DataDictionaryIndex index = DataDictionaryIndex.of(dictionary(
+                result("state", "1", "Paid", "1", "Paid twice", "3", "Paid"),
+                result("state", "1", "Other")));
+        final DataDictionaryIndex.Entry state = index.entry("state");
+        assertEquals("Paid", state.value("1"));
+        assertEquals("1", state.code("Paid"));
+        assertEquals(2, state.getValues().size());
+    }
+
+    /**
+     * 每份结果集（按引用）只编译一次；内容相同的另一份结果集（如刷新后）重新编译
+     */
+    @Test
+    void compilesEachResultSetOnce() {
+        final Set<DataDictionaryResult> dictionary = dictionary(result("state", "1", "Paid"));
+        assertSame(DataDictionaryIndex.of(dictionary), DataDictionaryIndex.of(dictionary));
+
+        final Set<DataDictionaryResult> reloaded = dictionary(result("state", "1", "Paid"));
+        assertEquals(dictionary, reloaded);
+        assertNotSame(DataDictionaryIndex.of(dictionary), DataDictionaryIndex.of(reloaded));
+    }
+
+    private static Set<DataDictionaryResult> dictionary(DataDictionaryResult... results) {
+        return new LinkedHashSet<>(Arrays.asList(results));
+    }
+
+    /**
+     * 一个属性的字典项
+     * @param entries 代码、值依次排列
+     */
+    private static DataDictionaryResult result(String name, String... entries) {
+        final DataDictionaryResult result = new DataDictionaryResult();
+        result.setName(name);
+        final LinkedHashSet<DataDictionaryResult.Map> maps = new LinkedHashSet<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            maps.add(new DataDictionaryResult.Map(entries[i], entries[i + 1]));
+        }
+        result.setMaps(maps);
+        return result;
+    }
+}
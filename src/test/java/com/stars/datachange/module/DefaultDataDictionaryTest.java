@@ -0,0 +1,53 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.config.StarsContexts;
+import com.stars.datachange.model.response.DataDictionaryResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 默认的数据字典模块：开启缓存时批量加载
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class DefaultDataDictionaryTest {
+
+    @Test
+    void loadsSeveralDictionariesAndCachesEachOne() {
+        StarsContexts.runner().withPropertyValues("stars.cache.open=true").run(context -> {
+            assertThat(context).hasNotFailed();
+            final DataDictionary dataDictionary = context.getBean(DataDictionary.class);
+
+            final Map<String, Set<DataDictionaryResult>> loaded = dataDictionary.dataDictionaries(Arrays.asList("starsOrder", "starsUser", "missing"));
+            assertThat(loaded).containsOnlyKeys("starsOrder", "starsUser", "missing");
+            assertThat(entries(loaded.get("starsOrder"))).containsExactlyInAnyOrder("state:1=Paid", "state:Paid=Paid again", "state:2=Shipped");
+            assertThat(entries(loaded.get("starsUser"))).containsExactlyInAnyOrder("gender:1=Male", "gender:2=Female");
+            assertThat(loaded.get("missing")).isEmpty();
+
+            // 逐个放入缓存，与dataDictionary(key)共用：清空字典表后仍从缓存读取
+            new JdbcTemplate(context.getBean(DataSource.class)).update("delete from sys_dictionary");
+            assertThat(context.getBean(CacheManager.class).getCache("stars").get(DefaultDataDictionary.DICTIONARY_KEY + "starsUser")).isNotNull();
+            assertThat(entries(dataDictionary.dataDictionary("starsOrder"))).hasSize(3);
+            assertThat(entries(dataDictionary.dataDictionaries(Arrays.asList("starsOrder", "starsUser")).get("starsUser"))).hasSize(2);
+
+            // 不经过缓存的重新加载
+            assertThat(dataDictionary.reload(Arrays.asList("starsOrder", "starsUser")).values()).allMatch(Set::isEmpty);
+        });
+    }
+
+    static Set<String> entries(Set<DataDictionaryResult> results) {
+        return results.stream()
+                .flatMap(o -> o.getMaps().stream().map(map -> o.getName() + ":" + map.getCode() + "=" + map.getValue()))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,137 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.autoconfigure.StarsProperties;
+import com.stars.datachange.config.StarsContexts;
+import com.stars.datachange.model.response.DataDictionaryResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 数据字典快照：文件的读写、损坏的文件、数据库不可用时使用快照
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class DictionarySnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("dictionary.snapshot");
+        final StarsProperties.Dictionary dictionary = new StarsProperties.Dictionary();
+        dictionary.setSnapshotPath(file.toString());
+        new StarsProperties(dictionary, new StarsProperties.Config(), new StarsProperties.Cache());
+    }
+
+    @Test
+    void writesAndReadsTheSnapshotFile() throws Exception {
+        final DictionarySnapshot written = open();
+        written.save("starsOrder", dictionary("state", "1", "Paid", "2", "Shipped"));
+        written.save(null, dictionary("gender", "1", "Male"));
+        final long loadedAt = written.loadedAt("starsOrder");
+        written.destroy();
+        assertThat(file).exists();
+
+        final DictionarySnapshot read = open();
+        assertThat(read.size()).isEqualTo(2);
+        assertThat(read.get("starsOrder")).isEqualTo(dictionary("state", "1", "Paid", "2", "Shipped"));
+        assertThat(read.get(null)).isEqualTo(dictionary("gender", "1", "Male"));
+        assertThat(read.loadedAt("starsOrder")).isEqualTo(loadedAt);
+
+        // 读取后可以替换快照文件
+        read.save("starsOrder", dictionary("state", "1", "Paid"));
+        read.destroy();
+        assertThat(open().get("starsOrder")).isEqualTo(dictionary("state", "1", "Paid"));
+    }
+
+    @Test
+    void ignoresTruncatedOrCorruptFiles() throws Exception {
+        final DictionarySnapshot written = open();
+        written.save("starsOrder", dictionary("state", "1", "Paid", "2", "Shipped"));
+        written.destroy();
+        final byte[] bytes = Files.readAllBytes(file);
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThat(open().size()).isZero();
+
+        final byte[] corrupt = bytes.clone();
+        corrupt[bytes.length / 2] ^= 0x7F;
+        Files.write(file, corrupt);
+        assertThat(open().size()).isZero();
+
+        Files.write(file, Arrays.copyOf(bytes, 8));
+        assertThat(open().size()).isZero();
+    }
+
+    /**
+     * 数据库不可用时使用快照，在snapshot-fallback-window秒内直接使用快照，之后重新查询数据库
+     */
+    @Test
+    void fallsBackToTheSnapshotWithinTheWindow() {
+        StarsContexts.runner()
+                .withPropertyValues("stars.dictionary.snapshot-path=" + file, "stars.dictionary.snapshot-fallback-window=1")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    final DataDictionary dataDictionary = context.getBean(DataDictionary.class);
+                    final JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+                    assertThat(values(dataDictionary.reload("starsOrder"))).contains("Shipped");
+
+                    // 数据库不可用：快照中有的使用快照，没有的抛出查询的异常
+                    jdbcTemplate.execute("alter table sys_dictionary rename to sys_dictionary_moved");
+                    assertThat(values(dataDictionary.reload("starsOrder"))).contains("Shipped");
+                    assertThatThrownBy(() -> dataDictionary.reload("starsUser")).isInstanceOf(RuntimeException.class);
+
+                    // 恢复后，时间窗口内仍使用快照
+                    jdbcTemplate.execute("alter table sys_dictionary_moved rename to sys_dictionary");
+                    jdbcTemplate.update("update sys_dictionary set value = 'Delivered' where id = 4");
+                    assertThat(values(dataDictionary.reload("starsOrder"))).contains("Shipped");
+
+                    Thread.sleep(1100);
+                    assertThat(values(dataDictionary.reload("starsOrder"))).contains("Delivered");
+                });
+    }
+
+    private static DictionarySnapshot open() {
+        final DictionarySnapshot snapshot = new DictionarySnapshot();
+        snapshot.afterPropertiesSet();
+        return snapshot;
+    }
+
+    /**
+     * 一个属性的数据字典
+     * @param entries 代码、值依次排列
+     */
+    private static Set<DataDictionaryResult> dictionary(String name, String... entries) {
+        final DataDictionaryResult result = new DataDictionaryResult();
+        result.setName(name);
+        final LinkedHashSet<DataDictionaryResult.Map> maps = new LinkedHashSet<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            maps.add(new DataDictionaryResult.Map(entries[i], entries[i + 1]));
+        }
+        result.setMaps(maps);
+        return new LinkedHashSet<>(Collections.singletonList(result));
+    }
+
+    private static Set<String> values(Set<DataDictionaryResult> results) {
+        final Set<String> values = new LinkedHashSet<>();
+        results.forEach(o -> o.getMaps().forEach(map -> values.add(map.getValue())));
+        return values;
+    }
+}
@@ -0,0 +1,83 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.autoconfigure.StarsProperties;
+import com.stars.datachange.config.StarsContexts;
+import com.stars.datachange.mapper.StarsDictionaryMapper;
+import com.stars.datachange.model.response.DataDictionaryGroup;
+import com.stars.datachange.model.response.DataDictionaryResult;
+import com.stars.datachange.model.response.DataDictionaryVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 数据字典版本轮询：版本查询、批量查询与一次轮询 → 重新加载
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class DictionaryVersionPollerTest {
+
+    /** 轮询间隔足够长，轮询由测试调用 */
+    private final ApplicationContextRunner runner = StarsContexts.runner().withPropertyValues(
+            "stars.cache.open=true",
+            "stars.dictionary.field-version=version",
+            "stars.dictionary.version-poll-interval=3600");
+
+    @Test
+    void queriesVersionsAndDictionariesByName() {
+        runner.run(context -> {
+            assertThat(context).hasNotFailed();
+            final StarsDictionaryMapper mapper = context.getBean(StarsDictionaryMapper.class);
+
+            final List<DataDictionaryVersion> versions = mapper.findVersions(StarsProperties.dictionary);
+            assertThat(versions.stream().map(o -> o.getKey() + "@" + o.getVersion() + "#" + o.getTotal()))
+                    .containsExactlyInAnyOrder("starsOrder@1#3", "starsUser@1#2");
+
+            final List<DataDictionaryGroup> groups = mapper.findByNames(StarsProperties.dictionary, Arrays.asList("starsUser", "missing"));
+            assertThat(groups).hasSize(1);
+            assertThat(groups.get(0).getKey()).isEqualTo("starsUser");
+            assertThat(groups.get(0).getResults()).hasSize(1);
+            assertThat(groups.get(0).getResults().get(0).getMaps()).hasSize(2);
+        });
+    }
+
+    @Test
+    void reloadsChangedAndEvictsRemovedDictionaries() {
+        runner.run(context -> {
+            final DataDictionary dataDictionary = context.getBean(DataDictionary.class);
+            final DictionaryVersionPoller poller = context.getBean(DictionaryVersionPoller.class);
+            final Cache cache = context.getBean(CacheManager.class).getCache("stars");
+
+            dataDictionary.dataDictionaries(Arrays.asList("starsOrder", "starsUser"));
+            poller.poll();
+
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+            jdbcTemplate.update("update sys_dictionary set value = 'Delivered', version = 2 where id = 4");
+            jdbcTemplate.update("delete from sys_dictionary where id >= 10");
+            poller.poll();
+
+            assertThat(values(cache, "starsOrder")).contains("Delivered").doesNotContain("Shipped");
+            assertThat(cache.get(DefaultDataDictionary.DICTIONARY_KEY + "starsUser")).isNull();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> values(Cache cache, String name) {
+        final Set<DataDictionaryResult> results = (Set<DataDictionaryResult>) cache.get(DefaultDataDictionary.DICTIONARY_KEY + name).get();
+        return results.stream()
+                .flatMap(o -> o.getMaps().stream())
+                .map(DataDictionaryResult.Map::getValue)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,79 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.autoconfigure.StarsProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 并行转换
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class ParallelConversionTest {
+
+    private final StarsProperties.Config config = new StarsProperties.Config();
+
+    @BeforeEach
+    void setUp() {
+        new StarsProperties(new StarsProperties.Dictionary(), config, new StarsProperties.Cache());
+        config.setParallelism(2);
+        config.setParallelThreshold(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ParallelConversion.shutdown();
+    }
+
+    @Test
+    void visitsEveryIndexOnceOnTheDedicatedPool() {
+        assertTrue(ParallelConversion.enabled(1000));
+        assertFalse(ParallelConversion.enabled(999));
+
+        final int size = 10000;
+        final AtomicIntegerArray visits = new AtomicIntegerArray(size);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        ParallelConversion.forEach(size, i -> {
+            visits.incrementAndGet(i);
+            threads.add(Thread.currentThread().getName());
+        });
+        for (int i = 0; i < size; i++) {
+            assertEquals(1, visits.get(i), "index " + i);
+        }
+        assertTrue(threads.stream().anyMatch(o -> o.startsWith("stars-datachange-")), threads::toString);
+    }
+
+    @Test
+    void shutdownClosesCurrentAndReplacedPools() throws InterruptedException {
+        ParallelConversion.forEach(2000, i -> { });
+        // 并行度变更：旧线程池被替换，但不立即关闭
+        config.setParallelism(3);
+        ParallelConversion.forEach(2000, i -> { });
+
+        new ConversionPools().destroy();
+        assertTrue(awaitNoThreads(), "stars-datachange worker threads still alive");
+
+        // 关闭后再次使用时重新创建
+        final AtomicIntegerArray visits = new AtomicIntegerArray(2000);
+        ParallelConversion.forEach(2000, visits::incrementAndGet);
+        assertEquals(1, visits.get(1999));
+    }
+
+    private static boolean awaitNoThreads() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (Thread.getAllStackTraces().keySet().stream().noneMatch(o -> o.getName().matches("stars-datachange-\\d+"))) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.annotation.ChangeModel;
+import com.stars.datachange.annotation.ChangeModelProperty;
+import com.stars.datachange.annotation.ReentrantChangeModelProperty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 测试用的数据模型：带重入属性（可以互相引用）
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+@Data
+@ToString(exclude = {"parent", "children"})
+@EqualsAndHashCode(exclude = {"parent", "children"})
+@ChangeModel(modelName = "starsOrder")
+public class StarsAccount {
+
+    @ChangeModelProperty
+    private String state;
+
+    @ReentrantChangeModelProperty
+    private StarsUser user;
+
+    @ReentrantChangeModelProperty
+    private StarsAccount parent;
+
+    @ReentrantChangeModelProperty
+    private List<StarsAccount> children;
+}
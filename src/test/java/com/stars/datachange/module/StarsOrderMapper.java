@@ -0,0 +1,36 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.annotation.ChangeResult;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.ResultType;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.List;
+
+/**
+ * 测试用的Mapper
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+@Mapper
+public interface StarsOrderMapper {
+
+    @ChangeResult
+    @Select("select id, state from stars_order order by id")
+    List<StarsOrder> findAll();
+
+    @Select("select id, state from stars_order order by id")
+    List<StarsOrder> findAllWithoutChange();
+
+    @ChangeResult
+    @Select("select id, state from stars_order order by id")
+    Cursor<StarsOrder> cursor();
+
+    @ChangeResult
+    @ResultType(StarsOrder.class)
+    @Select("select id, state from stars_order order by id")
+    void handle(ResultHandler<StarsOrder> handler);
+}
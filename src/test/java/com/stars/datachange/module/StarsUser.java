@@ -0,0 +1,19 @@
+package com.stars.datachange.module;
+
+import com.stars.datachange.annotation.ChangeModel;
+import com.stars.datachange.annotation.ChangeModelProperty;
+import lombok.Data;
+
+/**
+ * 测试用的数据模型（数据字典见stars-test/data.sql）
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+@Data
+@ChangeModel(modelName = "starsUser")
+public class StarsUser {
+
+    @ChangeModelProperty
+    private String gender;
+}
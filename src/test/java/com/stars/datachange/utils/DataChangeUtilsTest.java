@@ -0,0 +1,155 @@
+package com.stars.datachange.utils;
+
+import com.stars.datachange.autoconfigure.StarsProperties;
+import com.stars.datachange.model.response.DataDictionaryResult;
+import com.stars.datachange.module.DataDictionary;
+import com.stars.datachange.module.StarsAccount;
+import com.stars.datachange.module.StarsOrder;
+import com.stars.datachange.module.StarsUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 数据转换工具（数据字典来源的数据模型，数据字典由测试提供并记录加载次数）
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class DataChangeUtilsTest {
+
+    private final CountingDictionary dictionary = new CountingDictionary();
+
+    @BeforeEach
+    void setUp() {
+        new StarsProperties(new StarsProperties.Dictionary(), new StarsProperties.Config(), new StarsProperties.Cache());
+        new DataChangeUtils(dictionary, null);
+    }
+
+    @Test
+    void loadsTheDictionaryOnceForACollection() {
+        List<StarsOrder> orders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final StarsOrder order = new StarsOrder();
+            order.setState(i % 2 == 0 ? "1" : "2");
+            orders.add(order);
+        }
+        DataChangeUtils.dataChangeToBean(orders);
+        assertEquals("Paid", orders.get(0).getState());
+        assertEquals("Shipped", orders.get(99).getState());
+        assertEquals(1, dictionary.loads.get());
+        assertTrue(dictionary.batches.isEmpty());
+    }
+
+    /**
+     * 数据模型（含重入属性）用到的多个数据字典一次加载
+     */
+    @Test
+    void loadsDictionariesOfReentrantModelsInOneBatch() {
+        List<StarsAccount> accounts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final StarsUser user = new StarsUser();
+            user.setGender("2");
+            final StarsAccount account = new StarsAccount();
+            account.setState("1");
+            account.setUser(user);
+            accounts.add(account);
+        }
+        final List<Map<String, Object>> result = DataChangeUtils.dataChange(accounts);
+        assertEquals("Paid", result.get(9).get("state"));
+        assertEquals("Female", ((Map<?, ?>) result.get(9).get("user")).get("gender"));
+        assertEquals(0, dictionary.loads.get());
+        assertEquals(1, dictionary.batches.size());
+        assertEquals(new HashSet<>(Arrays.asList("starsOrder", "starsUser")), dictionary.batches.get(0));
+    }
+
+    /**
+     * 循环引用：转换到原对象时每个实例只转换一次
+     */
+    @Test
+    void convertsEachInstanceOfACycleOnce() {
+        final StarsAccount parent = new StarsAccount();
+        parent.setState("1");
+        final StarsAccount child = new StarsAccount();
+        child.setState("1");
+        child.setParent(parent);
+        parent.setChildren(Arrays.asList(child, child));
+
+        DataChangeUtils.dataChangeToBean(parent);
+        assertEquals("Paid", parent.getState());
+        assertEquals("Paid", child.getState());
+        assertSame(parent, child.getParent());
+    }
+
+    /**
+     * 循环引用：转换为Map时，指向转换路径上尚未转换完的数据的引用为null，共享的实例复用同一个转换结果
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void breaksCyclesInMapResults() {
+        final StarsAccount parent = new StarsAccount();
+        parent.setState("1");
+        final StarsAccount child = new StarsAccount();
+        child.setState("2");
+        child.setParent(parent);
+        parent.setChildren(Arrays.asList(child, child));
+
+        final Map<String, Object> result = DataChangeUtils.dataChange(parent);
+        final List<Map<String, Object>> children = (List<Map<String, Object>>) result.get("children");
+        assertEquals(2, children.size());
+        assertSame(children.get(0), children.get(1));
+        assertEquals("Shipped", children.get(0).get("state"));
+        assertNull(children.get(0).get("parent"));
+        // 不含环
+        assertDoesNotThrow(() -> result.hashCode());
+        assertDoesNotThrow(() -> result.toString());
+    }
+
+    /**
+     * 数据字典（与stars-test/data.sql一致）：'Paid'也是代码，重复转换时变为'Paid again'
+     */
+    private static final class CountingDictionary implements DataDictionary {
+
+        private final Map<String, Set<DataDictionaryResult>> dictionaries = new HashMap<>();
+
+        /** 逐个加载的次数 */
+        private final AtomicInteger loads = new AtomicInteger();
+
+        /** 一次加载多个数据字典的数据模型名 */
+        private final List<Set<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        private CountingDictionary() {
+            dictionaries.put("starsOrder", dictionary("state", "1", "Paid", "Paid", "Paid again", "2", "Shipped"));
+            dictionaries.put("starsUser", dictionary("gender", "1", "Male", "2", "Female"));
+        }
+
+        @Override
+        public Set<DataDictionaryResult> dataDictionary(String key) {
+            loads.incrementAndGet();
+            return dictionaries.getOrDefault(key, Collections.emptySet());
+        }
+
+        @Override
+        public Map<String, Set<DataDictionaryResult>> dataDictionaries(Collection<String> keys) {
+            batches.add(new HashSet<>(keys));
+            Map<String, Set<DataDictionaryResult>> result = new LinkedHashMap<>();
+            keys.forEach(key -> result.put(key, dictionaries.getOrDefault(key, Collections.emptySet())));
+            return result;
+        }
+
+        private static Set<DataDictionaryResult> dictionary(String name, String... entries) {
+            final DataDictionaryResult result = new DataDictionaryResult();
+            result.setName(name);
+            final LinkedHashSet<DataDictionaryResult.Map> maps = new LinkedHashSet<>();
+            for (int i = 0; i < entries.length; i += 2) {
+                maps.add(new DataDictionaryResult.Map(entries[i], entries[i + 1]));
+            }
+            result.setMaps(maps);
+            return Collections.singleton(result);
+        }
+    }
+}
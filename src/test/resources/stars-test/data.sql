@@ -0,0 +1,12 @@
+insert into sys_dictionary (id, parent_id, name, code, value, version) values (1, null, 'starsOrder', null, null, 1);
+-- 'Paid'也是字典项代码：重复转换时'1' → 'Paid' → 'Paid again'
+insert into sys_dictionary (id, parent_id, name, code, value, version) values (2, 1, 'state', '1', 'Paid', 1);
+insert into sys_dictionary (id, parent_id, name, code, value, version) values (3, 1, 'state', 'Paid', 'Paid again', 1);
+insert into sys_dictionary (id, parent_id, name, code, value, version) values (4, 1, 'state', '2', 'Shipped', 1);
+
+insert into sys_dictionary (id, parent_id, name, code, value, version) values (10, null, 'starsUser', null, null, 1);
+insert into sys_dictionary (id, parent_id, name, code, value, version) values (11, 10, 'gender', '1', 'Male', 1);
+insert into sys_dictionary (id, parent_id, name, code, value, version) values (12, 10, 'gender', '2', 'Female', 1);
+
+insert into stars_order (id, state) values (1, '1');
+insert into stars_order (id, state) values (2, '2');
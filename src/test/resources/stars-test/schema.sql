@@ -0,0 +1,13 @@
+create table sys_dictionary (
+  id bigint primary key,
+  parent_id bigint,
+  name varchar(64) not null,
+  code varchar(64),
+  value varchar(64),
+  version bigint
+);
+
+create table stars_order (
+  id bigint primary key,
+  state varchar(64)
+);
@@ -0,0 +1,601 @@
+package com.stars.datachange.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * 数据转换模型注解处理器<p>
+ *     编译期为{@code @ChangeModel}数据模型生成转换器（{@code com.stars.datachange.module.ChangeConverter}），
+ *     运行时由{@code ConverterRegistry}按类名发现，数据转换（转换到原对象）不再需要反射读写属性<p>
+ *     同时校验属性映射：映射的属性不存在、或不是{@link String}类型（多选值属性还可以是{@code String[]}、{@code List<String>}）、或字典枚举绑定失败时，编译失败<p>
+ *     数据模型含有重入属性、或无法从同包访问时，只做校验，不生成转换器（运行时回退到反射转换）<p>
+ *     可选参数：{@code -Astars.mappingSuffix=Text,Str,Ext}，需与运行时的{@code stars.config.mapping-suffix}一致
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/17 15:00
+ */
+@SupportedAnnotationTypes(ChangeModelProcessor.CHANGE_MODEL)
+@SupportedOptions(ChangeModelProcessor.MAPPING_SUFFIX)
+public class ChangeModelProcessor extends AbstractProcessor {
+
+    static final String MAPPING_SUFFIX = "stars.mappingSuffix";
+
+    static final String CHANGE_MODEL = "com.stars.datachange.annotation.ChangeModel";
+
+    private static final String CHANGE_MODEL_PROPERTY = "com.stars.datachange.annotation.ChangeModelProperty";
+
+    private static final String REENTRANT_CHANGE_MODEL_PROPERTY = "com.stars.datachange.annotation.ReentrantChangeModelProperty";
+
+    private static final String BASE_CODE = "com.stars.datachange.model.code.BaseCode";
+
+    /** 与ConverterRegistry#SUFFIX一致 */
+    private static final String CONVERTER_SUFFIX = "_StarsConverter";
+
+    private static final String MODULE = "com.stars.datachange.module.";
+
+    /** 默认映射属性的后缀 */
+    private String[] mappingSuffix = {"Text", "Str", "Ext"};
+
+    private Elements elements;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        final String option = processingEnv.getOptions().get(MAPPING_SUFFIX);
+        if (isNotEmpty(option)) {
+            this.mappingSuffix = Arrays.stream(option.split(",")).map(String::trim).filter(o -> !o.isEmpty()).toArray(String[]::new);
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        final TypeElement changeModel = elements.getTypeElement(CHANGE_MODEL);
+        if (changeModel == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(changeModel)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                model((TypeElement) element);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 解析数据模型，校验属性映射并生成转换器
+     * @param type 数据模型
+     */
+    private void model(TypeElement type) {
+        // 数据模型及其父类（与运行时的Process#getFields一致：遇到第一个没有@ChangeModel的父类时停止；
+        // @ChangeModel是@Inherited，父类自身未声明、但继承了@ChangeModel时，运行时同样继续）
+        final List<TypeElement> chain = new ArrayList<>();
+        chain.add(type);
+        for (TypeElement t = superclass(type); t != null && !t.getQualifiedName().contentEquals(Object.class.getName()) && changeModel(t) != null; t = superclass(t)) {
+            chain.add(t);
+        }
+        final AnnotationMirror top = changeModel(chain.get(chain.size() - 1));
+        if (top == null) {
+            return;
+        }
+
+        // 最终生效的数据转换模型（与运行时的Process#create一致：最上层的@ChangeModel）
+        final Model model = new Model(top);
+        if (!model.bind(type)) {
+            return;
+        }
+
+        boolean reentrant = false;
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < chain.size(); i++) {
+            final Model level = new Model(changeModel(chain.get(i)));
+            for (VariableElement field : ElementFilter.fieldsIn(chain.get(i).getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                if (mirror(field, REENTRANT_CHANGE_MODEL_PROPERTY) != null) {
+                    reentrant = true;
+                    continue;
+                }
+                final AnnotationMirror anon = mirror(field, CHANGE_MODEL_PROPERTY);
+                if (level.source.equals("NONE")) {
+                    properties.add(new Property(chain.get(i), field, null));
+                } else if (anon != null) {
+                    final Property property = new Property(chain.get(i), field, anon);
+                    if (!property.ignore) {
+                        properties.add(property);
+                    }
+                } else if (level.quick) {
+                    properties.add(new Property(chain.get(i), field, null));
+                }
+            }
+        }
+
+        // 属性映射
+        boolean valid = true;
+        if (!model.source.equals("NONE")) {
+            for (Property property : properties) {
+                valid &= property.map(chain);
+            }
+        }
+        if (!valid || reentrant || !accessible(type) || (model.modelCode != null && !accessible(model.modelCode))) {
+            return;
+        }
+        write(type, model, properties);
+    }
+
+    /**
+     * 生成转换器
+     */
+    private void write(TypeElement type, Model model, List<Property> properties) {
+        final String pkg = elements.getPackageOf(type).getQualifiedName().toString();
+        final String typeName = type.getQualifiedName().toString();
+        final String name = binaryName(type).substring(pkg.isEmpty() ? 0 : pkg.length() + 1).replace('$', '_') + CONVERTER_SUFFIX;
+
+        StringBuilder fields = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        if (!model.source.equals("NONE")) {
+            for (int i = 0; i < properties.size(); i++) {
+                final Property property = properties.get(i);
+                if (property.target == null) {
+                    continue;
+                }
+                final String read = property.read(pkg, i, fields);
+                final String alias = literal(property.alias);
+                final String expression;
+                if (property.bitOperation && model.isEnum()) {
+                    fields.append("    private static final ").append(MODULE).append("BitMask BITS_").append(i).append(" = ").append(MODULE).append("BitMask.of(").append(model.modelCodeName()).append(".class, ").append(alias).append(");\n\n");
+                    expression = "BITS_" + i + ".change(value, rollback)";
+                } else if (property.bitOperation) {
+                    expression = "dictionary.entry(" + alias + ").bitMask().change(value, rollback)";
+                } else if (property.split) {
+                    fields.append("    private static final ").append(MODULE).append("SplitTokenizer TOKENS_").append(i).append(" = ").append(MODULE).append("SplitTokenizer.of(").append(literal(property.delimiter)).append(");\n\n");
+                    final String table;
+                    if (model.isEnum()) {
+                        fields.append("    private static final java.util.Map<String, String> VALUES_").append(i).append(" = com.stars.datachange.model.code.BaseCodeIndex.of(").append(model.modelCodeName()).append(".class).values(").append(alias).append(");\n\n");
+                        fields.append("    private static final java.util.Map<String, String> KEYS_").append(i).append(" = com.stars.datachange.model.code.BaseCodeIndex.of(").append(model.modelCodeName()).append(".class).keys(").append(alias).append(");\n\n");
+                        table = "rollback ? KEYS_" + i + " : VALUES_" + i;
+                    } else {
+                        table = "dictionary.entry(" + alias + ").table(rollback)";
+                    }
+                    expression = "TOKENS_" + i + "." + property.tokens + "(value.toString(), " + table + ")";
+                } else if (model.isEnum()) {
+                    fields.append("    private static final java.util.Map<String, String> VALUES_").append(i).append(" = com.stars.datachange.model.code.BaseCodeIndex.of(").append(model.modelCodeName()).append(".class).values(").append(alias).append(");\n\n");
+                    fields.append("    private static final java.util.Map<String, String> KEYS_").append(i).append(" = com.stars.datachange.model.code.BaseCodeIndex.of(").append(model.modelCodeName()).append(".class).keys(").append(alias).append(");\n\n");
+                    expression = MODULE + "ChangeConverter.change(value.toString(), rollback ? KEYS_" + i + " : VALUES_" + i + ")";
+                } else {
+                    expression = "dictionary.entry(" + alias + ").change(value.toString(), rollback)";
+                }
+                body.append("        // ").append(property.field.getSimpleName()).append(" → ").append(property.target.getSimpleName()).append('\n');
+                body.append("        value = ").append(read).append(";\n");
+                body.append("        if (value != null) {\n");
+                body.append("            ").append(property.write(pkg, i, fields, expression)).append(";\n");
+                body.append("        }\n\n");
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            source.append("package ").append(pkg).append(";\n\n");
+        }
+        source.append("/**\n * {@link ").append(typeName).append("}的转换器<p>\n *     由stars-datachange-processor生成，请勿修改\n */\n");
+        source.append("public final class ").append(name).append(" implements ").append(MODULE).append("ChangeConverter {\n\n");
+        source.append(fields);
+        source.append("    @Override\n    public Class<?> type() {\n        return ").append(typeName).append(".class;\n    }\n\n");
+        source.append("    @Override\n    public String[] mappingSuffix() {\n        return new String[] {");
+        for (int i = 0; i < mappingSuffix.length; i++) {
+            source.append(i == 0 ? "" : ", ").append(literal(mappingSuffix[i]));
+        }
+        source.append("};\n    }\n\n");
+        source.append("    @Override\n    @SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+        source.append("    public void convert(Object o, ").append(MODULE).append("DataDictionaryIndex dictionary, boolean rollback) {\n");
+        source.append("        final ").append(typeName).append(" data = (").append(typeName).append(") o;\n");
+        source.append("        Object value;\n\n");
+        source.append(body);
+        source.append("    }\n}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(pkg.isEmpty() ? name : pkg + "." + name, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Failed to generate converter: " + e, type);
+        }
+    }
+
+    /**
+     * 数据转换模型
+     */
+    private final class Model {
+
+        /** 数据转换源（AUTO已解析） */
+        private final String source;
+
+        private final boolean quick;
+
+        /** 数据代码模型 */
+        private TypeElement modelCode;
+
+        private Model(AnnotationMirror anon) {
+            final Map<String, Object> values = values(anon);
+            final TypeElement value = typeValue(values.get("value"));
+            final TypeElement code = typeValue(values.get("modelCode"));
+            final String modelName = String.valueOf(values.get("modelName"));
+            String source = String.valueOf(values.get("source"));
+            if (source.equals("AUTO")) {
+                if (!isEnumClass(value) || !isEnumClass(code)) {
+                    source = "ENUM";
+                } else if (isNotEmpty(modelName)) {
+                    source = "DB";
+                } else {
+                    source = "NONE";
+                }
+            }
+            this.source = source;
+            this.quick = Boolean.TRUE.equals(values.get("quick"));
+            if (source.equals("ENUM")) {
+                this.modelCode = isEnumClass(code) ? value : code;
+            }
+        }
+
+        /**
+         * 校验字典枚举绑定（与运行时的Process#create一致）
+         */
+        private boolean bind(TypeElement type) {
+            if (!isEnum()) {
+                return true;
+            }
+            if (isEnumClass(modelCode)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to bind code model!", type);
+                return false;
+            }
+            for (TypeMirror o : modelCode.getInterfaces()) {
+                if (((TypeElement) ((DeclaredType) o).asElement()).getQualifiedName().contentEquals(BASE_CODE)) {
+                    return true;
+                }
+            }
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("%s must be implements %s", modelCode.getQualifiedName(), BASE_CODE), type);
+            return false;
+        }
+
+        private boolean isEnum() {
+            return source.equals("ENUM");
+        }
+
+        private String modelCodeName() {
+            return modelCode.getQualifiedName().toString();
+        }
+    }
+
+    /**
+     * 数据转换模型的属性
+     */
+    private final class Property {
+
+        /** 声明属性的数据模型 */
+        private final TypeElement owner;
+
+        private final VariableElement field;
+
+        private boolean ignore;
+
+        private boolean split;
+
+        private boolean bitOperation;
+
+        private String delimiter = ",";
+
+        /** 多选值的写入方式：join（String）、list（List）、array（String[]） */
+        private String tokens = "join";
+
+        private String mapping = "";
+
+        private String alias;
+
+        /** 映射后的属性（为null时不转换） */
+        private VariableElement target;
+
+        /** 映射后的属性所在的数据模型 */
+        private TypeElement targetOwner;
+
+        private Property(TypeElement owner, VariableElement field, AnnotationMirror anon) {
+            this.owner = owner;
+            this.field = field;
+            this.alias = field.getSimpleName().toString();
+            if (anon == null) {
+                return;
+            }
+            final Map<String, Object> values = values(anon);
+            this.ignore = Boolean.TRUE.equals(values.get("ignore"));
+            this.split = Boolean.TRUE.equals(values.get("split"));
+            this.bitOperation = Boolean.TRUE.equals(values.get("bitOperation"));
+            if (isNotEmpty((String) values.get("delimiter"))) {
+                this.delimiter = (String) values.get("delimiter");
+            }
+            this.mapping = (String) values.get("mapping");
+            if (isNotEmpty((String) values.get("alias"))) {
+                this.alias = (String) values.get("alias");
+            }
+        }
+
+        /**
+         * 解析映射后的属性（与运行时的Process#getMappedField一致）
+         * @return 映射是否合法
+         */
+        private boolean map(List<TypeElement> chain) {
+            final String name = field.getSimpleName().toString();
+            if (isNotEmpty(mapping)) {
+                if (!find(chain, mapping)) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Property mapping not found [%s] !", mapping), field);
+                    return false;
+                }
+            } else {
+                // 智能匹配以Text、Str、Ext等结尾的属性，子类优先
+                search:
+                for (TypeElement t : chain) {
+                    for (String suffix : mappingSuffix) {
+                        if (find(Collections.singletonList(t), name + suffix)) {
+                            break search;
+                        }
+                    }
+                }
+                if (target == null) {
+                    if (!isString(field.asType())) {
+                        return true;
+                    }
+                    target = field;
+                    targetOwner = owner;
+                }
+            }
+            if (split && !bitOperation && target != field) {
+                final String tokens = tokens(target.asType());
+                if (tokens != null) {
+                    this.tokens = tokens;
+                    return true;
+                }
+            }
+            if (!isString(target.asType())) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("The mapped property must be of type java.lang.String [%s] !", target.getSimpleName()), field);
+                target = null;
+                return false;
+            }
+            return true;
+        }
+
+        private boolean find(List<TypeElement> chain, String name) {
+            for (TypeElement t : chain) {
+                for (VariableElement o : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                    if (!o.getModifiers().contains(Modifier.STATIC) && o.getSimpleName().contentEquals(name)) {
+                        target = o;
+                        targetOwner = t;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 读取源属性的表达式
+         */
+        private String read(String pkg, int i, StringBuilder fields) {
+            if (visible(field, owner, pkg)) {
+                return "data." + field.getSimpleName();
+            }
+            final String getter = getter(owner, field, pkg);
+            if (getter != null) {
+                return "data." + getter + "()";
+            }
+            fields.append("    private static final ").append(MODULE).append("FieldAccessor SOURCE_").append(i).append(" = ").append(MODULE).append("ChangeConverter.accessor(").append(owner.getQualifiedName()).append(".class, ").append(literal(field.getSimpleName().toString())).append(");\n\n");
+            return "SOURCE_" + i + ".get(data)";
+        }
+
+        /**
+         * 写入映射属性的语句
+         */
+        private String write(String pkg, int i, StringBuilder fields, String expression) {
+            if (visible(target, targetOwner, pkg) && !target.getModifiers().contains(Modifier.FINAL)) {
+                return "data." + target.getSimpleName() + " = " + expression;
+            }
+            final String setter = setter(targetOwner, target, pkg);
+            if (setter != null) {
+                return "data." + setter + "(" + expression + ")";
+            }
+            fields.append("    private static final ").append(MODULE).append("FieldAccessor TARGET_").append(i).append(" = ").append(MODULE).append("ChangeConverter.accessor(").append(targetOwner.getQualifiedName()).append(".class, ").append(literal(target.getSimpleName().toString())).append(");\n\n");
+            return "TARGET_" + i + ".set(data, " + expression + ")";
+        }
+    }
+
+    /**
+     * 读取属性的方法名：已声明的getter，或lombok将生成的getter
+     */
+    private String getter(TypeElement owner, VariableElement field, String pkg) {
+        final String name = capitalize(field.getSimpleName().toString());
+        final String getter = (field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get") + name;
+        for (ExecutableElement method : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(getter) && method.getParameters().isEmpty() && !method.getModifiers().contains(Modifier.STATIC)) {
+                return visible(method, owner, pkg) ? getter : null;
+            }
+        }
+        final boolean lombok = mirror(owner, "lombok.Data") != null || mirror(owner, "lombok.Value") != null
+                || mirror(owner, "lombok.Getter") != null || mirror(field, "lombok.Getter") != null;
+        return lombok && accessible(owner) ? getter : null;
+    }
+
+    /**
+     * 写入属性的方法名：已声明的setter，或lombok将生成的setter
+     */
+    private String setter(TypeElement owner, VariableElement field, String pkg) {
+        final String setter = "set" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setter) && method.getParameters().size() == 1 && !method.getModifiers().contains(Modifier.STATIC)) {
+                final TypeMirror parameter = method.getParameters().get(0).asType();
+                return visible(method, owner, pkg) && processingEnv.getTypeUtils().isSameType(processingEnv.getTypeUtils().erasure(parameter), processingEnv.getTypeUtils().erasure(field.asType())) ? setter : null;
+            }
+        }
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            return null;
+        }
+        final boolean lombok = mirror(owner, "lombok.Data") != null || mirror(owner, "lombok.Setter") != null || mirror(field, "lombok.Setter") != null;
+        return lombok && accessible(owner) ? setter : null;
+    }
+
+    /**
+     * 生成的转换器（与数据模型同包）能否直接访问成员
+     */
+    private boolean visible(Element member, TypeElement owner, String pkg) {
+        final Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return accessible(owner) || elements.getPackageOf(owner).getQualifiedName().contentEquals(pkg);
+        }
+        return elements.getPackageOf(owner).getQualifiedName().contentEquals(pkg);
+    }
+
+    /**
+     * 类型能否在包外访问，或至少在同包内访问（非私有、非局部、内部类需为静态）
+     */
+    private boolean accessible(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            final TypeElement t = (TypeElement) e;
+            if (t.getNestingKind() == NestingKind.LOCAL || t.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (t.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC) && t.getKind() == ElementKind.CLASS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 类型上生效的@ChangeModel（与运行时的Class#getAnnotation一致：自身未声明时，取最近的声明了@ChangeModel的父类）
+     */
+    private AnnotationMirror changeModel(TypeElement type) {
+        for (AnnotationMirror mirror : elements.getAllAnnotationMirrors(type)) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(CHANGE_MODEL)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private Map<String, Object> values(AnnotationMirror anon) {
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(anon).entrySet()) {
+            Object value = entry.getValue().getValue();
+            if (value instanceof VariableElement) {
+                value = ((VariableElement) value).getSimpleName().toString();
+            }
+            values.put(entry.getKey().getSimpleName().toString(), value);
+        }
+        return values;
+    }
+
+    private static AnnotationMirror mirror(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static TypeElement typeValue(Object value) {
+        return value instanceof DeclaredType ? (TypeElement) ((DeclaredType) value).asElement() : null;
+    }
+
+    private static boolean isEnumClass(TypeElement type) {
+        return type == null || type.getQualifiedName().contentEquals(Enum.class.getName());
+    }
+
+    private static boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(String.class.getName());
+    }
+
+    /**
+     * 多选值属性的映射属性的写入方式（与运行时的SplitTokenizer#supports一致）
+     * @return String[]为array；List、Collection、Iterable（泛型参数为String或未指定）为list；其他为null
+     */
+    private static String tokens(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isString(((ArrayType) type).getComponentType()) ? "array" : null;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        final DeclaredType declared = (DeclaredType) type;
+        final Name name = ((TypeElement) declared.asElement()).getQualifiedName();
+        if (!name.contentEquals(List.class.getName()) && !name.contentEquals(Collection.class.getName()) && !name.contentEquals(Iterable.class.getName())) {
+            return null;
+        }
+        return declared.getTypeArguments().isEmpty() || isString(declared.getTypeArguments().get(0)) ? "list" : null;
+    }
+
+    private String binaryName(TypeElement type) {
+        return elements.getBinaryName(type).toString();
+    }
+
+    /**
+     * 与运行时的StringUtils#isNotEmpty一致
+     */
+    private static boolean isNotEmpty(String s) {
+        return s != null && !s.isEmpty() && !s.equals("null");
+    }
+
+    private static String capitalize(String s) {
+        return Character.toTitleCase(s.charAt(0)) + s.substring(1);
+    }
+
+    private static String literal(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : s.toCharArray()) {
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,156 @@
+package com.stars.datachange.processor;
+
+import com.stars.datachange.module.Process;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 数据转换模型注解处理器的编译测试<p>
+ *     用{@link ChangeModelProcessor}编译数据模型（含生成的转换器），校验编译结果、生成的转换器与运行时的规则一致
+ * @author Hao.
+ * @version 2.1
+ * @since 2026/10/18 01:00
+ */
+class ChangeModelProcessorTest {
+
+    private static final String CODE = "package demo;\n"
+            + "public enum Code implements com.stars.datachange.model.code.BaseCode {\n"
+            + "    ONE(\"state\", \"1\", \"One\");\n"
+            + "    private final String t, k, v;\n"
+            + "    Code(String t, String k, String v) { this.t = t; this.k = k; this.v = v; }\n"
+            + "    public String t() { return t; }\n"
+            + "    public String k() { return k; }\n"
+            + "    public String v() { return v; }\n"
+            + "}\n";
+
+    @TempDir
+    Path output;
+
+    @Test
+    void generatesConverter() throws IOException {
+        final Result result = compile(CODE, "package demo;\n"
+                + "@com.stars.datachange.annotation.ChangeModel(Code.class)\n"
+                + "public class Order {\n"
+                + "    @com.stars.datachange.annotation.ChangeModelProperty public Integer state;\n"
+                + "    public String stateText;\n"
+                + "}\n");
+        assertTrue(result.success, result.errors::toString);
+        assertTrue(result.converter("demo.Order").contains("// state → stateText"));
+    }
+
+    @Test
+    void rejectsMappedPropertyThatIsNotString() {
+        final Result result = compile(CODE, "package demo;\n"
+                + "@com.stars.datachange.annotation.ChangeModel(Code.class)\n"
+                + "public class Order {\n"
+                + "    @com.stars.datachange.annotation.ChangeModelProperty(mapping = \"count\") public Integer state;\n"
+                + "    public Integer count;\n"
+                + "}\n");
+        assertFalse(result.success);
+        assertTrue(result.errors.contains("The mapped property must be of type java.lang.String [count] !"), result.errors::toString);
+    }
+
+    /**
+     * 父类链与运行时的Process#getFields一致：继承了@ChangeModel的中间父类继续，通用父类（没有@ChangeModel）停止
+     */
+    @Test
+    void followsRuntimeSuperclassChain() throws Exception {
+        final Result result = compile(CODE,
+                "package demo;\n"
+                        + "public class Generic {\n"
+                        + "    @com.stars.datachange.annotation.ChangeModelProperty(mapping = \"missing\") public Integer broken;\n"
+                        + "}\n",
+                "package demo;\n"
+                        + "@com.stars.datachange.annotation.ChangeModel(Code.class)\n"
+                        + "public class Base extends Generic {\n"
+                        + "    @com.stars.datachange.annotation.ChangeModelProperty public Integer state;\n"
+                        + "    public String stateText;\n"
+                        + "}\n",
+                "package demo;\n"
+                        + "public class Middle extends Base {\n"
+                        + "    @com.stars.datachange.annotation.ChangeModelProperty public Integer type;\n"
+                        + "    public String typeText;\n"
+                        + "}\n",
+                "package demo;\n"
+                        + "@com.stars.datachange.annotation.ChangeModel(Code.class)\n"
+                        + "public class Order extends Middle {\n"
+                        + "    @com.stars.datachange.annotation.ChangeModelProperty public Integer level;\n"
+                        + "    public String levelText;\n"
+                        + "}\n");
+        assertTrue(result.success, result.errors::toString);
+        final String converter = result.converter("demo.Order");
+        assertTrue(converter.contains("// level → levelText"));
+        assertTrue(converter.contains("// type → typeText"));
+        assertTrue(converter.contains("// state → stateText"));
+        assertFalse(converter.contains("broken"));
+
+        // 运行时的父类链
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {output.toUri().toURL()}, getClass().getClassLoader())) {
+            final Set<String> fields = Process.getFields(loader.loadClass("demo.Order"), new ArrayList<>()).stream()
+                    .map(Field::getName)
+                    .collect(Collectors.toSet());
+            assertTrue(fields.containsAll(Arrays.asList("level", "type", "state")), fields::toString);
+            assertFalse(fields.contains("broken"));
+        }
+    }
+
+    private Result compile(String... sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> units = new ArrayList<>();
+        for (String source : sources) {
+            final String name = source.replaceAll("(?s).*?package (\\S+);.*?(class|enum) (\\w+).*", "$1.$3");
+            units.add(new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            });
+        }
+        final List<String> options = Arrays.asList("-d", output.toString(), "-s", output.toString(),
+                "-classpath", System.getProperty("java.class.path"), "-encoding", "UTF-8");
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, units);
+        task.setProcessors(Collections.singletonList(new ChangeModelProcessor()));
+        final boolean success = task.call();
+        final List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(o -> o.getKind() == Diagnostic.Kind.ERROR)
+                .map(o -> o.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+        return new Result(success, errors);
+    }
+
+    private final class Result {
+
+        private final boolean success;
+
+        private final List<String> errors;
+
+        private Result(boolean success, List<String> errors) {
+            this.success = success;
+            this.errors = errors;
+        }
+
+        /**
+         * 生成的转换器源码
+         */
+        private String converter(String type) throws IOException {
+            final Path file = output.resolve(type.replace('.', '/') + "_StarsConverter.java");
+            assertTrue(Files.exists(file), "Converter not generated: " + file);
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        }
+    }
+}